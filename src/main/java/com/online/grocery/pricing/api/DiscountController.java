@@ -1,5 +1,6 @@
 package com.online.grocery.pricing.api;
 
+import com.online.grocery.pricing.api.cache.PreparedResponseCache;
 import com.online.grocery.pricing.api.dto.DiscountRuleResponse;
 import com.online.grocery.pricing.service.DiscountRuleService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -7,14 +8,16 @@ import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 /**
  * REST controller for discount rule information.
  */
@@ -23,30 +26,45 @@ import java.util.List;
 @Tag(name = "Discounts", description = "Discount rule information")
 public class DiscountController {
 
+    private static final String RULES_KEY = "discount-rules";
+
     private final DiscountRuleService ruleService;
+    private final PreparedResponseCache responseCache;
 
-    public DiscountController(DiscountRuleService ruleService) {
+    public DiscountController(DiscountRuleService ruleService, PreparedResponseCache responseCache) {
         this.ruleService = ruleService;
+        this.responseCache = responseCache;
     }
 
     /**
      * List all registered discount rules.
+     * The serialized (and compressed) JSON body is built once and reused,
+     * and a matching If-None-Match is answered with 304.
      *
+     * @param headers Request headers, read for Accept-Encoding and If-None-Match
      * @return List of discount rules with descriptions
      */
-    @GetMapping("/rules")
+    @GetMapping(value = "/rules", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(
             summary = "List discount rules",
             description = "Returns all registered discount rules with their descriptions"
     )
-    @ApiResponse(
-            responseCode = "200",
-            description = "Discount rules retrieved successfully",
-            content = @Content(
-                    array = @ArraySchema(schema = @Schema(implementation = DiscountRuleResponse.class))
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Discount rules retrieved successfully",
+                    content = @Content(
+                            array = @ArraySchema(schema = @Schema(implementation = DiscountRuleResponse.class))
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Client already holds the current version"
             )
-    )
-    public ResponseEntity<List<DiscountRuleResponse>> listDiscountRules() {
-        return ResponseEntity.ok(ruleService.getAllRules());
+    })
+    public ResponseEntity<byte[]> listDiscountRules(
+            @RequestHeader HttpHeaders headers
+    ) {
+        return responseCache.respond(RULES_KEY, headers, ruleService::getAllRules);
     }
 }
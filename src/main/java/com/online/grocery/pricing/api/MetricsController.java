@@ -0,0 +1,73 @@
+package com.online.grocery.pricing.api;
+
+import com.online.grocery.pricing.api.dto.CoalescingStatsResponse;
+import com.online.grocery.pricing.api.dto.IdempotencyStatsResponse;
+import com.online.grocery.pricing.service.CoalescingPricingService;
+import com.online.grocery.pricing.service.IdempotencyService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for pricing runtime metrics.
+ */
+@RestController
+@RequestMapping("/api/v1/metrics")
+@Tag(name = "Metrics", description = "Pricing runtime metrics")
+public class MetricsController {
+
+    private final CoalescingPricingService coalescingPricingService;
+    private final IdempotencyService idempotencyService;
+
+    public MetricsController(
+            CoalescingPricingService coalescingPricingService,
+            IdempotencyService idempotencyService
+    ) {
+        this.coalescingPricingService = coalescingPricingService;
+        this.idempotencyService = idempotencyService;
+    }
+
+    /**
+     * Report single-flight coalescing counters.
+     *
+     * @return Requests seen, requests coalesced and their ratio
+     */
+    @GetMapping("/coalescing")
+    @Operation(
+            summary = "Get coalescing metrics",
+            description = "Returns how many orders shared an identical in-flight pricing run"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Coalescing metrics retrieved successfully",
+            content = @Content(schema = @Schema(implementation = CoalescingStatsResponse.class))
+    )
+    public ResponseEntity<CoalescingStatsResponse> getCoalescingStats() {
+        return ResponseEntity.ok(coalescingPricingService.stats());
+    }
+
+    /**
+     * Report Idempotency-Key store size and hit rate.
+     *
+     * @return Stored entries, approximate bytes, hits, misses and hit rate
+     */
+    @GetMapping("/idempotency")
+    @Operation(
+            summary = "Get idempotency store metrics",
+            description = "Returns the size of the Idempotency-Key result store and how often retries were replayed"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Idempotency metrics retrieved successfully",
+            content = @Content(schema = @Schema(implementation = IdempotencyStatsResponse.class))
+    )
+    public ResponseEntity<IdempotencyStatsResponse> getIdempotencyStats() {
+        return ResponseEntity.ok(idempotencyService.stats());
+    }
+}
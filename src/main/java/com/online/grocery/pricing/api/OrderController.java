@@ -1,26 +1,39 @@
 package com.online.grocery.pricing.api;
 
+import com.online.grocery.pricing.api.dto.BatchOrderResultResponse;
 import com.online.grocery.pricing.api.dto.ErrorResponse;
 import com.online.grocery.pricing.api.dto.OrderRequest;
-import com.online.grocery.pricing.api.dto.ReceiptLineResponse;
+import com.online.grocery.pricing.api.dto.ReceiptLinesEventResponse;
 import com.online.grocery.pricing.api.dto.ReceiptResponse;
 import com.online.grocery.pricing.api.mapper.OrderMapper;
+import com.online.grocery.pricing.api.mapper.StreamingOrderReader;
 import com.online.grocery.pricing.domain.model.Order;
 import com.online.grocery.pricing.domain.model.Receipt;
-import com.online.grocery.pricing.service.OrderPricingService;
+import com.online.grocery.pricing.pricing.context.OrderAccumulator;
+import com.online.grocery.pricing.service.BatchPricingService;
+import com.online.grocery.pricing.service.CoalescingPricingService;
+import com.online.grocery.pricing.service.IdempotencyService;
+import com.online.grocery.pricing.service.ReceiptEventService;
+import com.online.grocery.pricing.service.StreamingPricingService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.validation.Valid;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -31,27 +44,89 @@ import java.util.List;
 @Tag(name = "Orders", description = "Order pricing operations")
 public class OrderController {
 
-    private final OrderPricingService pricingService;
+    private final CoalescingPricingService pricingService;
     private final OrderMapper orderMapper;
+    private final BatchPricingService batchPricingService;
+    private final StreamingPricingService streamingPricingService;
+    private final StreamingOrderReader streamingOrderReader;
+    private final ReceiptEventService receiptEventService;
+    private final IdempotencyService idempotencyService;
 
     public OrderController(
-            OrderPricingService pricingService,
-            OrderMapper orderMapper
+            CoalescingPricingService pricingService,
+            OrderMapper orderMapper,
+            BatchPricingService batchPricingService,
+            StreamingPricingService streamingPricingService,
+            StreamingOrderReader streamingOrderReader,
+            ReceiptEventService receiptEventService,
+            IdempotencyService idempotencyService
     ) {
         this.pricingService = pricingService;
         this.orderMapper = orderMapper;
+        this.batchPricingService = batchPricingService;
+        this.streamingPricingService = streamingPricingService;
+        this.streamingOrderReader = streamingOrderReader;
+        this.receiptEventService = receiptEventService;
+        this.idempotencyService = idempotencyService;
     }
 
     /**
      * Calculate pricing for an order.
+     * With an Idempotency-Key, a retry of the same request replays the first receipt.
      *
-     * @param request Order containing items to price
+     * @param request        Order containing items to price
+     * @param idempotencyKey Optional Idempotency-Key header
      * @return Receipt with line items and totals
      */
     @PostMapping("/calculate")
     @Operation(
             summary = "Calculate order total",
-            description = "Calculates the total price for an order with all applicable discounts"
+            description = "Calculates the total price for an order with all applicable discounts. "
+                    + "Requests with an Idempotency-Key are priced once and replayed on retry"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Order calculated successfully",
+                    content = @Content(schema = @Schema(implementation = ReceiptResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request data",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "Business rule violation, or Idempotency-Key reused with a different body",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<Receipt> calculateOrder(
+            @RequestBody OrderRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey
+    ) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(priceOrder(request));
+        }
+        return ResponseEntity.ok(idempotencyService.execute(idempotencyKey, request, () -> priceOrder(request)));
+    }
+
+    /**
+     * Calculate pricing for a very large order without buffering its items.
+     * Accepts the same body as /calculate and returns the same receipt.
+     *
+     * @param request Servlet request carrying the JSON order body
+     * @return Receipt with line items and totals
+     * @throws IOException if the request body cannot be read
+     */
+    @PostMapping(value = "/calculate-large", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Calculate a very large order",
+            description = "Streams the items array and aggregates each item as it is parsed, "
+                    + "so memory use does not grow with the number of items",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(schema = @Schema(implementation = OrderRequest.class))
+            )
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -70,29 +145,128 @@ public class OrderController {
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
-    public ResponseEntity<ReceiptResponse> calculateOrder(
-            @Valid @RequestBody OrderRequest request
+    public ResponseEntity<Receipt> calculateLargeOrder(
+            HttpServletRequest request
+    ) throws IOException {
+        OrderAccumulator totals = streamingOrderReader.readOrder(request.getInputStream());
+        return ResponseEntity.ok(pricingService.calculateReceipt(totals));
+    }
+
+    /**
+     * Calculate pricing for several orders in one request.
+     *
+     * @param requests Orders to price
+     * @return One result per order, in input order
+     */
+    @PostMapping("/calculate-batch")
+    @Operation(
+            summary = "Calculate a batch of orders",
+            description = "Prices each order in parallel and reports success or failure per order"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed; see the status of each result",
+                    content = @Content(
+                            array = @ArraySchema(schema = @Schema(implementation = BatchOrderResultResponse.class))
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Batch is empty or exceeds the maximum size",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<List<BatchOrderResultResponse>> calculateBatch(
+            @RequestBody List<OrderRequest> requests
     ) {
-        Order order = orderMapper.mapToOrder(request);
-        Receipt receipt = pricingService.calculateReceipt(order);
-        return ResponseEntity.ok(mapToResponse(receipt));
+        return ResponseEntity.ok(batchPricingService.calculateBatch(requests));
     }
 
-    private ReceiptResponse mapToResponse(Receipt receipt) {
-        List<ReceiptLineResponse> lineResponses = receipt.lines().stream()
-                .map(line -> new ReceiptLineResponse(
-                        line.description(),
-                        line.originalPrice(),
-                        line.discount(),
-                        line.finalPrice()
-                ))
-                .toList();
+    /**
+     * Price a newline-delimited JSON stream of orders.
+     * Each request line holds one order; each response line holds its receipt or error.
+     *
+     * @param request  Servlet request carrying the NDJSON order stream
+     * @param response Servlet response receiving the NDJSON result stream
+     * @throws IOException if the stream cannot be read or written
+     */
+    @PostMapping(
+            value = "/calculate-stream",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(
+            summary = "Calculate a stream of orders",
+            description = "Reads one order per NDJSON line and writes one receipt or error per line, in input order"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Stream processed; each line is a ReceiptResponse or an ErrorResponse",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                    schema = @Schema(implementation = ReceiptResponse.class)
+            )
+    )
+    public void calculateStream(
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        streamingPricingService.priceStream(request.getReader(), response.getWriter());
+    }
+
+    /**
+     * Price an order and stream its receipt as server-sent events.
+     * Each product type's lines are sent as soon as they are priced, then the totals.
+     *
+     * @param request  Order containing items to price
+     * @param response Servlet response receiving the event stream
+     * @throws IOException if the stream cannot be written
+     */
+    @PostMapping(
+            value = "/calculate-events",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE
+    )
+    @Operation(
+            summary = "Calculate order total as server-sent events",
+            description = "Emits a 'lines' event per product type as soon as it is priced, "
+                    + "then a 'totals' event"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Event stream of ReceiptLinesEventResponse, then ReceiptTotalsResponse",
+                    content = @Content(
+                            mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = ReceiptLinesEventResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request data",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "Business rule violation",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public void calculateEvents(
+            @RequestBody OrderRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        Order order = orderMapper.mapToOrder(request);
+        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        receiptEventService.streamReceipt(order, response.getWriter());
+    }
 
-        return new ReceiptResponse(
-                lineResponses,
-                receipt.subtotal(),
-                receipt.totalDiscount(),
-                receipt.total()
-        );
+    private Receipt priceOrder(OrderRequest request) {
+        Order order = orderMapper.mapToOrder(request);
+        return pricingService.calculateReceipt(order);
     }
 }
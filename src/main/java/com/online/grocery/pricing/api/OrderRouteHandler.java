@@ -0,0 +1,66 @@
+package com.online.grocery.pricing.api;
+
+import com.online.grocery.pricing.api.dto.OrderRequest;
+import com.online.grocery.pricing.api.mapper.OrderMapper;
+import com.online.grocery.pricing.domain.model.Receipt;
+import com.online.grocery.pricing.exception.OrderValidationException;
+import com.online.grocery.pricing.service.CoalescingPricingService;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+
+/**
+ * Functional handler for the plain JSON case of /api/v1/orders/calculate.
+ *
+ * <p>Reads the body straight from the servlet stream and validates it with
+ * OrderMapper, skipping argument resolution and ResponseEntity wrapping. Failures
+ * surface as the same exceptions, so GlobalExceptionHandler produces the same error
+ * responses.</p>
+ */
+public class OrderRouteHandler {
+
+    private final JsonMapper jsonMapper;
+    private final OrderMapper orderMapper;
+    private final CoalescingPricingService pricingService;
+
+    public OrderRouteHandler(
+            JsonMapper jsonMapper,
+            OrderMapper orderMapper,
+            CoalescingPricingService pricingService
+    ) {
+        this.jsonMapper = jsonMapper;
+        this.orderMapper = orderMapper;
+        this.pricingService = pricingService;
+    }
+
+    /**
+     * Price a JSON order.
+     *
+     * @param request Request carrying a JSON OrderRequest
+     * @return Receipt with line items and totals
+     * @throws IOException if the request body cannot be read
+     */
+    public ServerResponse calculate(ServerRequest request) throws IOException {
+        Receipt receipt = pricingService.calculateReceipt(orderMapper.mapToOrder(read(request)));
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).body(receipt);
+    }
+
+    private OrderRequest read(ServerRequest request) throws IOException {
+        try {
+            OrderRequest orderRequest = jsonMapper.readValue(
+                    request.servletRequest().getInputStream(),
+                    OrderRequest.class
+            );
+            if (orderRequest != null) {
+                return orderRequest;
+            }
+        } catch (JacksonException ex) {
+            // Reported below with the same message as the streaming reader
+        }
+        throw OrderValidationException.malformedBody();
+    }
+}
@@ -0,0 +1,149 @@
+package com.online.grocery.pricing.api;
+
+import com.online.grocery.pricing.api.dto.ErrorResponse;
+import com.online.grocery.pricing.api.dto.OrderRequest;
+import com.online.grocery.pricing.api.dto.PricingJobResponse;
+import com.online.grocery.pricing.api.dto.ReceiptResponse;
+import com.online.grocery.pricing.domain.enums.JobStatus;
+import com.online.grocery.pricing.domain.model.Receipt;
+import com.online.grocery.pricing.exception.GlobalExceptionHandler;
+import com.online.grocery.pricing.service.PricingJob;
+import com.online.grocery.pricing.service.PricingJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * REST controller for asynchronous pricing jobs.
+ */
+@RestController
+@RequestMapping("/api/v1/orders/jobs")
+@Tag(name = "Pricing Jobs", description = "Asynchronous pricing for very large orders")
+public class PricingJobController {
+
+    private final PricingJobService jobService;
+    private final GlobalExceptionHandler exceptionHandler;
+
+    public PricingJobController(
+            PricingJobService jobService,
+            GlobalExceptionHandler exceptionHandler
+    ) {
+        this.jobService = jobService;
+        this.exceptionHandler = exceptionHandler;
+    }
+
+    /**
+     * Queue an order for background pricing.
+     *
+     * @param request Servlet request carrying the JSON order body
+     * @return The job id and its current status
+     * @throws IOException if the request body cannot be read
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Submit a pricing job",
+            description = "Queues the order on a dedicated job pool and returns a job id to poll",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(schema = @Schema(implementation = OrderRequest.class))
+            )
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Job accepted",
+                    content = @Content(schema = @Schema(implementation = PricingJobResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Order body too large",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Job queue is full",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<PricingJobResponse> submitJob(
+            HttpServletRequest request
+    ) throws IOException {
+        PricingJob job = jobService.submit(request.getInputStream());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/orders/jobs/" + job.id()))
+                .body(new PricingJobResponse(job.id(), job.status()));
+    }
+
+    /**
+     * Fetch a job result, optionally waiting for it to finish.
+     *
+     * @param jobId       Job id returned on submission
+     * @param waitSeconds Seconds to wait for a pending job, capped by pricing.jobs.max-wait
+     * @return The receipt, the pricing error, or 202 while the job is still pending
+     */
+    @GetMapping("/{jobId}")
+    @Operation(
+            summary = "Get a pricing job result",
+            description = "Returns the receipt once the job has finished. "
+                    + "With waitSeconds the request long-polls until the job finishes or the wait elapses"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Job finished",
+                    content = @Content(schema = @Schema(implementation = ReceiptResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Job still pending",
+                    content = @Content(schema = @Schema(implementation = PricingJobResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Unknown or expired job",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public CompletableFuture<ResponseEntity<?>> getJob(
+            @PathVariable String jobId,
+            @RequestParam(defaultValue = "0") long waitSeconds
+    ) {
+        PricingJob job = jobService.find(jobId);
+        Duration wait = jobService.boundedWait(Duration.ofSeconds(waitSeconds));
+        ResponseEntity<?> pending = ResponseEntity.accepted()
+                .body(new PricingJobResponse(jobId, JobStatus.PENDING));
+
+        // Waiting happens on the future, not on the servlet thread
+        return job.result()
+                .handle(this::toResponse)
+                .completeOnTimeout(pending, wait.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private ResponseEntity<?> toResponse(Receipt receipt, Throwable failure) {
+        if (failure == null) {
+            return ResponseEntity.ok(receipt);
+        }
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        return exceptionHandler.resolve(cause instanceof Exception ex ? ex : new IllegalStateException(cause));
+    }
+}
@@ -1,5 +1,6 @@
 package com.online.grocery.pricing.api;
 
+import com.online.grocery.pricing.api.cache.PreparedResponseCache;
 import com.online.grocery.pricing.api.dto.PriceInfoResponse;
 import com.online.grocery.pricing.config.PricingConfiguration;
 import io.swagger.v3.oas.annotations.Operation;
@@ -7,9 +8,13 @@ import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -23,33 +28,52 @@ import java.util.List;
 @Tag(name = "Products", description = "Product pricing information")
 public class ProductController {
 
+    private static final String PRICES_KEY = "product-prices";
+
     private final PricingConfiguration config;
+    private final PreparedResponseCache responseCache;
 
-    public ProductController(PricingConfiguration config) {
+    public ProductController(PricingConfiguration config, PreparedResponseCache responseCache) {
         this.config = config;
+        this.responseCache = responseCache;
     }
 
     /**
      * List current product prices.
+     * The serialized (and compressed) JSON body is built once and reused,
+     * and a matching If-None-Match is answered with 304.
      *
+     * @param headers Request headers, read for Accept-Encoding and If-None-Match
      * @return List of product prices with units
      */
-    @GetMapping("/prices")
+    @GetMapping(value = "/prices", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(
             summary = "List product prices",
             description = "Returns current base prices for all product types"
     )
-    @ApiResponse(
-            responseCode = "200",
-            description = "Prices retrieved successfully",
-            content = @Content(
-                    array = @ArraySchema(schema = @Schema(implementation = PriceInfoResponse.class))
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Prices retrieved successfully",
+                    content = @Content(
+                            array = @ArraySchema(schema = @Schema(implementation = PriceInfoResponse.class))
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Client already holds the current version"
             )
-    )
-    public ResponseEntity<List<PriceInfoResponse>> listPrices() {
+    })
+    public ResponseEntity<byte[]> listPrices(
+            @RequestHeader HttpHeaders headers
+    ) {
+        return responseCache.respond(PRICES_KEY, headers, this::buildPrices);
+    }
+
+    private List<PriceInfoResponse> buildPrices() {
         PricingConfiguration.BeerRules beerRules = config.getBeer();
 
-        List<PriceInfoResponse> prices = List.of(
+        return List.of(
                 new PriceInfoResponse(
                         "Bread",
                         config.getBreadPrice(),
@@ -76,7 +100,5 @@ public class ProductController {
                         "per bottle"
                 )
         );
-
-        return ResponseEntity.ok(prices);
     }
 }
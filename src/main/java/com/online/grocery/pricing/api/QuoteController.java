@@ -0,0 +1,108 @@
+package com.online.grocery.pricing.api;
+
+import com.online.grocery.pricing.api.dto.ErrorResponse;
+import com.online.grocery.pricing.api.dto.OrderRequest;
+import com.online.grocery.pricing.api.dto.QuoteResponse;
+import com.online.grocery.pricing.api.dto.QuoteVerificationRequest;
+import com.online.grocery.pricing.api.dto.QuoteVerificationResponse;
+import com.online.grocery.pricing.api.mapper.OrderMapper;
+import com.online.grocery.pricing.service.QuoteService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for signed price quotes.
+ */
+@RestController
+@RequestMapping("/api/v1/quotes")
+@Tag(name = "Quotes", description = "Signed price quotes")
+public class QuoteController {
+
+    private final QuoteService quoteService;
+    private final OrderMapper orderMapper;
+
+    public QuoteController(QuoteService quoteService, OrderMapper orderMapper) {
+        this.quoteService = quoteService;
+        this.orderMapper = orderMapper;
+    }
+
+    /**
+     * Price an order and return a token that confirms the price at checkout.
+     *
+     * @param request Order containing items to price
+     * @return Receipt with a signed quote token
+     */
+    @PostMapping
+    @Operation(
+            summary = "Quote an order",
+            description = "Prices the order and signs its totals, so checkout can confirm them without pricing again"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Order quoted successfully",
+                    content = @Content(schema = @Schema(implementation = QuoteResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request data",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "Business rule violation",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<QuoteResponse> quoteOrder(
+            @RequestBody OrderRequest request
+    ) {
+        return ResponseEntity.ok(quoteService.quote(orderMapper.mapToOrder(request)));
+    }
+
+    /**
+     * Confirm the quoted price of an order.
+     * The order is priced again only if the pricing rules changed since the quote.
+     *
+     * @param request Order being checked out and its quote token
+     * @return Totals to charge, and whether they were recalculated
+     */
+    @PostMapping("/verify")
+    @Operation(
+            summary = "Verify a quote",
+            description = "Checks the token against the order and returns the quoted totals. "
+                    + "If the pricing rules changed since the quote, the order is priced again and a new token issued"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Quote verified",
+                    content = @Content(schema = @Schema(implementation = QuoteVerificationResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request data",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "Business rule violation, or a token that is invalid, expired or for another order",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public ResponseEntity<QuoteVerificationResponse> verifyQuote(
+            @Valid @RequestBody QuoteVerificationRequest request
+    ) {
+        return ResponseEntity.ok(quoteService.verify(orderMapper.mapToOrder(request.order()), request.token()));
+    }
+}
@@ -0,0 +1,17 @@
+package com.online.grocery.pricing.api.cache;
+
+/**
+ * A response body serialized once.
+ *
+ * @param body     Serialized JSON body
+ * @param etag     Strong entity tag of the plain body, quoted
+ * @param gzipBody Gzip-compressed body, or null when compression does not pay off
+ * @param gzipEtag Strong entity tag of the gzip body, quoted, or null without one
+ */
+public record PreparedResponse(
+        byte[] body,
+        String etag,
+        byte[] gzipBody,
+        String gzipEtag
+) {
+}
@@ -0,0 +1,191 @@
+package com.online.grocery.pricing.api.cache;
+
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.autoconfigure.ServerProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serializes and gzip-compresses configuration-derived responses once and serves the
+ * stored bytes afterwards.
+ *
+ * <p>The pricing configuration is bound once at startup, so a prepared body never goes
+ * stale within a process. A restart with different prices yields different bytes and
+ * therefore different ETags, which is what invalidates client copies.</p>
+ *
+ * <p>The gzip variant is built when {@code server.compression} is enabled and it is
+ * smaller than the plain body. The minimum response size is not applied here: it exists
+ * to save per-request CPU, and these bodies are compressed only once. Responses that
+ * carry a Content-Encoding are left alone by the servlet container, so these bodies are
+ * never compressed twice.</p>
+ *
+ * <p>Each variant carries a strong ETag derived from its bytes, so a client that sends
+ * {@code If-None-Match} with a current tag gets a 304 without any serialization.
+ * Bodies are JSON only; the endpoints serving them declare that they produce JSON.</p>
+ */
+@Component
+public class PreparedResponseCache {
+
+    private static final String GZIP = "gzip";
+    private static final int ETAG_BYTES = 8;
+
+    private final ConcurrentMap<String, PreparedResponse> responses = new ConcurrentHashMap<>();
+
+    private final JsonMapper jsonMapper;
+    private final Compression compression;
+
+    public PreparedResponseCache(JsonMapper jsonMapper, ServerProperties serverProperties) {
+        this.jsonMapper = jsonMapper;
+        this.compression = serverProperties.getCompression();
+    }
+
+    /**
+     * Get the prepared response for a key, building it on first use.
+     *
+     * @param key     Name of the cached output
+     * @param payload Builds the response body from the configuration
+     * @return The prepared response
+     */
+    public PreparedResponse get(String key, Supplier<?> payload) {
+        PreparedResponse cached = responses.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        return responses.computeIfAbsent(key, ignored -> prepare(payload));
+    }
+
+    /**
+     * Build a JSON response from the prepared bytes, using the gzip variant when the
+     * client accepts it, or a 304 when the client already holds the current variant.
+     *
+     * @param key            Name of the cached output
+     * @param requestHeaders Request headers, read for Accept-Encoding and If-None-Match
+     * @param payload        Builds the response body for the current configuration
+     * @return Response carrying the stored bytes, or an empty 304
+     */
+    public ResponseEntity<byte[]> respond(String key, HttpHeaders requestHeaders, Supplier<?> payload) {
+        PreparedResponse prepared = get(key, payload);
+        boolean gzip = prepared.gzipBody() != null
+                && acceptsGzip(requestHeaders.getFirst(HttpHeaders.ACCEPT_ENCODING));
+        String etag = gzip ? prepared.gzipEtag() : prepared.etag();
+
+        if (matchesEtag(requestHeaders.get(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return varyOnEncoding(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag), prepared)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = varyOnEncoding(ResponseEntity.ok(), prepared)
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(prepared.gzipBody());
+        }
+        return response.body(prepared.body());
+    }
+
+    /**
+     * Only a response with a gzip variant depends on Accept-Encoding.
+     */
+    private static ResponseEntity.BodyBuilder varyOnEncoding(
+            ResponseEntity.BodyBuilder response,
+            PreparedResponse prepared
+    ) {
+        return prepared.gzipBody() != null
+                ? response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                : response;
+    }
+
+    /**
+     * Whether an Accept-Encoding header allows gzip, honouring {@code q=0}.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            boolean accepted = parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            if (name.equalsIgnoreCase(GZIP)) {
+                return accepted;
+            }
+            if (name.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    /**
+     * Whether If-None-Match header values name the given tag or {@code *}.
+     * Uses the weak comparison that If-None-Match calls for, so {@code W/} prefixes are ignored.
+     */
+    static boolean matchesEtag(List<String> ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String header : ifNoneMatch) {
+            for (String candidate : header.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private PreparedResponse prepare(Supplier<?> payload) {
+        byte[] body = jsonMapper.writeValueAsBytes(payload.get());
+        byte[] gzipBody = compress(body);
+        return new PreparedResponse(
+                body,
+                etag(body),
+                gzipBody,
+                gzipBody != null ? etag(gzipBody) : null
+        );
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return '"' + HexFormat.of().formatHex(digest, 0, ETAG_BYTES) + '"';
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private byte[] compress(byte[] body) {
+        if (!compression.getEnabled()) {
+            return null;
+        }
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return compressed.size() < body.length ? compressed.toByteArray() : null;
+    }
+}
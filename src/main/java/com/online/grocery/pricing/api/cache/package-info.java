@@ -0,0 +1,5 @@
+/**
+ * Response Caching.
+ * Serialized and pre-compressed responses for outputs that only change with configuration.
+ */
+package com.online.grocery.pricing.api.cache;
@@ -0,0 +1,93 @@
+package com.online.grocery.pricing.api.codec;
+
+import com.online.grocery.pricing.api.dto.ErrorResponse;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Writes an ErrorResponse in the same shape as reflective mapping.
+ *
+ * <p>Property names, error codes and the messages and details that rejected orders
+ * repeat most often are encoded once and copied into each response, so answering a
+ * flood of invalid requests spends almost nothing on serialization.</p>
+ */
+public class ErrorResponseSerializer extends StdSerializer<ErrorResponse> {
+
+    static final SerializableString CODE = new SerializedString("code");
+    static final SerializableString MESSAGE = new SerializedString("message");
+    static final SerializableString DETAILS = new SerializedString("details");
+
+    /** Values written verbatim by GlobalExceptionHandler and the order validation path. */
+    static final Map<String, SerializableString> COMMON_VALUES = Stream.of(
+            "VALIDATION_ERROR",
+            "INVALID_ORDER",
+            "INTERNAL_ERROR",
+            "JOB_NOT_FOUND",
+            "JOB_QUEUE_FULL",
+            "IDEMPOTENCY_KEY_REUSED",
+            "IDEMPOTENCY_KEY_IN_PROGRESS",
+            "INVALID_QUOTE",
+            "Invalid request data",
+            "An unexpected error occurred",
+            "items",
+            "At least one item required",
+            "Malformed order JSON",
+            "body",
+            "Malformed JSON body"
+    ).collect(Collectors.toUnmodifiableMap(Function.identity(), SerializedString::new));
+
+    public ErrorResponseSerializer() {
+        super(ErrorResponse.class);
+    }
+
+    @Override
+    public void serialize(ErrorResponse error, JsonGenerator generator, SerializationContext ctxt) {
+        generator.writeStartObject(error);
+
+        generator.writeName(CODE);
+        writeValue(generator, error.code());
+        generator.writeName(MESSAGE);
+        writeValue(generator, error.message());
+
+        generator.writeName(DETAILS);
+        Map<String, String> details = error.details();
+        if (details == null) {
+            generator.writeNull();
+        } else {
+            generator.writeStartObject(details);
+            for (Map.Entry<String, String> detail : details.entrySet()) {
+                SerializableString name = COMMON_VALUES.get(detail.getKey());
+                if (name != null) {
+                    generator.writeName(name);
+                } else {
+                    generator.writeName(detail.getKey());
+                }
+                writeValue(generator, detail.getValue());
+            }
+            generator.writeEndObject();
+        }
+
+        generator.writeEndObject();
+    }
+
+    private static void writeValue(JsonGenerator generator, String value) {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        SerializableString common = COMMON_VALUES.get(value);
+        if (common != null) {
+            generator.writeString(common);
+        } else {
+            generator.writeString(value);
+        }
+    }
+}
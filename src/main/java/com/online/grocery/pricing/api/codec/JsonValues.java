@@ -0,0 +1,114 @@
+package com.online.grocery.pricing.api.codec;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.StreamWriteCapability;
+import tools.jackson.databind.DeserializationContext;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Scalar read and write helpers shared by the hand-written order serializers.
+ *
+ * <p>Each helper handles the common token shape directly and hands anything else to the
+ * default databind deserializer, so coercion rules and error messages stay the same as
+ * with reflective mapping.</p>
+ */
+final class JsonValues {
+
+    /** Largest precision whose unscaled value always fits in a long. */
+    private static final int MAX_FAST_PRECISION = 18;
+
+    /** BigDecimal.toString switches to exponent notation below this adjusted exponent. */
+    private static final int MIN_PLAIN_EXPONENT = -6;
+
+    private JsonValues() {
+    }
+
+    /**
+     * Read an int property without going through the boxed Integer deserializer.
+     */
+    static Integer readInt(JsonParser parser, DeserializationContext ctxt) {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() == JsonParser.NumberType.INT) {
+            return parser.getIntValue();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ctxt.readValue(parser, Integer.class);
+    }
+
+    /**
+     * Write a decimal in the same form as {@link BigDecimal#toString()} without building
+     * the string. Values outside the plain-notation range are written the default way.
+     */
+    static void writeDecimal(JsonGenerator generator, BigDecimal value) {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        int scale = value.scale();
+        int precision = value.precision();
+        if (!generator.has(StreamWriteCapability.CAN_WRITE_FORMATTED_NUMBERS)
+                || scale < 0
+                || precision > MAX_FAST_PRECISION
+                || precision - 1 - scale < MIN_PLAIN_EXPONENT) {
+            generator.writeNumber(value);
+            return;
+        }
+
+        long unscaled = value.unscaledValue().longValue();
+        long digits = Math.abs(unscaled);
+        // Sign, up to 18 digits, the point and zero padding up to the scale
+        char[] buffer = new char[MAX_FAST_PRECISION + 3 + scale];
+        int position = buffer.length;
+        int written = 0;
+        do {
+            if (written == scale && scale > 0) {
+                buffer[--position] = '.';
+            }
+            buffer[--position] = (char) ('0' + digits % 10);
+            digits /= 10;
+            written++;
+        } while (digits != 0 || written <= scale);
+
+        if (unscaled < 0) {
+            buffer[--position] = '-';
+        }
+        generator.writeNumber(buffer, position, buffer.length - position);
+    }
+
+    /**
+     * Enum lookup by constant name, built once per enum type.
+     */
+    static final class EnumLookup<E extends Enum<E>> {
+
+        private final Class<E> type;
+        private final Map<String, E> byName = new HashMap<>();
+
+        EnumLookup(Class<E> type) {
+            this.type = type;
+            for (E constant : type.getEnumConstants()) {
+                byName.put(constant.name(), constant);
+            }
+        }
+
+        E read(JsonParser parser, DeserializationContext ctxt) {
+            JsonToken token = parser.currentToken();
+            if (token == JsonToken.VALUE_STRING) {
+                E constant = byName.get(parser.getString());
+                if (constant != null) {
+                    return constant;
+                }
+            } else if (token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            return ctxt.readValue(parser, type);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.online.grocery.pricing.api.codec;
+
+import com.online.grocery.pricing.api.dto.OrderItemRequest;
+import com.online.grocery.pricing.domain.enums.BeerOrigin;
+import com.online.grocery.pricing.domain.enums.ProductType;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Reads an OrderItemRequest field by field instead of through record reflection.
+ * Unknown properties are handled as configured on the mapper.
+ */
+public class OrderItemRequestDeserializer extends StdDeserializer<OrderItemRequest> {
+
+    private static final JsonValues.EnumLookup<ProductType> PRODUCT_TYPES =
+            new JsonValues.EnumLookup<>(ProductType.class);
+    private static final JsonValues.EnumLookup<BeerOrigin> BEER_ORIGINS =
+            new JsonValues.EnumLookup<>(BeerOrigin.class);
+
+    public OrderItemRequestDeserializer() {
+        super(OrderItemRequest.class);
+    }
+
+    @Override
+    public OrderItemRequest deserialize(JsonParser parser, DeserializationContext ctxt) {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        } else if (token != JsonToken.PROPERTY_NAME && token != JsonToken.END_OBJECT) {
+            return (OrderItemRequest) ctxt.handleUnexpectedToken(OrderItemRequest.class, parser);
+        }
+
+        ProductType type = null;
+        Integer quantity = null;
+        Integer daysOld = null;
+        Integer weightGrams = null;
+        BeerOrigin origin = null;
+
+        for (; token == JsonToken.PROPERTY_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "type" -> type = PRODUCT_TYPES.read(parser, ctxt);
+                case "quantity" -> quantity = JsonValues.readInt(parser, ctxt);
+                case "daysOld" -> daysOld = JsonValues.readInt(parser, ctxt);
+                case "weightGrams" -> weightGrams = JsonValues.readInt(parser, ctxt);
+                case "origin" -> origin = BEER_ORIGINS.read(parser, ctxt);
+                default -> handleUnknownProperty(parser, ctxt, OrderItemRequest.class, name);
+            }
+        }
+
+        return new OrderItemRequest(type, quantity, daysOld, weightGrams, origin);
+    }
+}
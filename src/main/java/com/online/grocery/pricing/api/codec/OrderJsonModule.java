@@ -0,0 +1,28 @@
+package com.online.grocery.pricing.api.codec;
+
+import com.online.grocery.pricing.api.dto.ErrorResponse;
+import com.online.grocery.pricing.api.dto.OrderItemRequest;
+import com.online.grocery.pricing.api.dto.OrderRequest;
+import com.online.grocery.pricing.domain.model.Receipt;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.module.SimpleModule;
+
+/**
+ * Registers the hand-written order, receipt and error (de)serializers. Receipts are
+ * written straight from the domain model in the ReceiptResponse shape.
+ *
+ * <p>As a bean, the module is added to every auto-configured mapper, so the JSON
+ * converter, the streaming reader and the CBOR converter all use it.</p>
+ */
+@Component
+public class OrderJsonModule extends SimpleModule {
+
+    public OrderJsonModule() {
+        super("grocery-order-json");
+        OrderItemRequestDeserializer itemDeserializer = new OrderItemRequestDeserializer();
+        addDeserializer(OrderItemRequest.class, itemDeserializer);
+        addDeserializer(OrderRequest.class, new OrderRequestDeserializer(itemDeserializer));
+        addSerializer(Receipt.class, new ReceiptSerializer());
+        addSerializer(ErrorResponse.class, new ErrorResponseSerializer());
+    }
+}
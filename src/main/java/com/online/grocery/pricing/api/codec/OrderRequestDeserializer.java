@@ -0,0 +1,62 @@
+package com.online.grocery.pricing.api.codec;
+
+import com.online.grocery.pricing.api.dto.OrderItemRequest;
+import com.online.grocery.pricing.api.dto.OrderRequest;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.deser.std.StdDeserializer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads an OrderRequest and its items with {@link OrderItemRequestDeserializer},
+ * skipping the collection deserializer for the common array shape.
+ */
+public class OrderRequestDeserializer extends StdDeserializer<OrderRequest> {
+
+    private final OrderItemRequestDeserializer itemDeserializer;
+
+    public OrderRequestDeserializer(OrderItemRequestDeserializer itemDeserializer) {
+        super(OrderRequest.class);
+        this.itemDeserializer = itemDeserializer;
+    }
+
+    @Override
+    public OrderRequest deserialize(JsonParser parser, DeserializationContext ctxt) {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        } else if (token != JsonToken.PROPERTY_NAME && token != JsonToken.END_OBJECT) {
+            return (OrderRequest) ctxt.handleUnexpectedToken(OrderRequest.class, parser);
+        }
+
+        List<OrderItemRequest> items = null;
+        for (; token == JsonToken.PROPERTY_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (!"items".equals(name)) {
+                handleUnknownProperty(parser, ctxt, OrderRequest.class, name);
+            } else if (value == JsonToken.START_ARRAY) {
+                items = readItems(parser, ctxt);
+            } else if (value == JsonToken.VALUE_NULL) {
+                items = null;
+            } else {
+                items = ctxt.readValue(parser, ctxt.getTypeFactory()
+                        .constructCollectionType(List.class, OrderItemRequest.class));
+            }
+        }
+
+        return new OrderRequest(items);
+    }
+
+    private List<OrderItemRequest> readItems(JsonParser parser, DeserializationContext ctxt) {
+        List<OrderItemRequest> items = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            items.add(token == JsonToken.VALUE_NULL ? null : itemDeserializer.deserialize(parser, ctxt));
+        }
+        return items;
+    }
+}
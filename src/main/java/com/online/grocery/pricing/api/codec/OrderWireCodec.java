@@ -0,0 +1,284 @@
+package com.online.grocery.pricing.api.codec;
+
+import com.online.grocery.pricing.api.dto.OrderItemRequest;
+import com.online.grocery.pricing.api.dto.OrderRequest;
+import com.online.grocery.pricing.api.dto.ReceiptLineResponse;
+import com.online.grocery.pricing.api.dto.ReceiptResponse;
+import com.online.grocery.pricing.domain.enums.BeerOrigin;
+import com.online.grocery.pricing.domain.enums.ProductType;
+import com.online.grocery.pricing.domain.model.Receipt;
+import com.online.grocery.pricing.domain.model.ReceiptLine;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary encoding for orders and receipts.
+ *
+ * <p>Order layout: version byte, item count, then per item one header byte followed
+ * by the fields it flags as present. The header holds the ProductType ordinal in bits
+ * 0-1 (3 = missing) and presence flags for quantity, daysOld, weightGrams and origin in
+ * bits 4-7; bits 2-3 are reserved and must be zero. Integers are zigzag varints and the
+ * origin is its ordinal byte, so missing or out-of-range values still reach the normal
+ * validation path. Bytes after the last item are rejected.</p>
+ *
+ * <p>Receipt layout: version byte, line count, then per line a length-prefixed UTF-8
+ * description and three money amounts, followed by subtotal, total discount and total.
+ * Money is written as a zigzag varint of cents (scale 2); an amount with finer precision
+ * is a programming error and fails rather than being rounded.</p>
+ */
+public final class OrderWireCodec {
+
+    public static final String MEDIA_TYPE_VALUE = "application/x-grocery-wire";
+
+    private static final int VERSION = 1;
+    private static final int MONEY_SCALE = 2;
+    private static final int TYPE_MASK = 0b0000_0011;
+    private static final int TYPE_MISSING = 3;
+    private static final int RESERVED_BITS = 0b0000_1100;
+    private static final int HAS_QUANTITY = 1 << 4;
+    private static final int HAS_DAYS_OLD = 1 << 5;
+    private static final int HAS_WEIGHT = 1 << 6;
+    private static final int HAS_ORIGIN = 1 << 7;
+    private static final int MAX_PREALLOCATED = 1024;
+
+    private static final ProductType[] PRODUCT_TYPES = ProductType.values();
+    private static final BeerOrigin[] BEER_ORIGINS = BeerOrigin.values();
+
+    private OrderWireCodec() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Encode an order request.
+     *
+     * @param request The order to encode
+     * @param output  Destination stream
+     * @throws IOException if the stream cannot be written
+     */
+    public static void writeOrder(OrderRequest request, OutputStream output) throws IOException {
+        List<OrderItemRequest> items = request.items() != null ? request.items() : List.of();
+        output.write(VERSION);
+        writeUnsigned(items.size(), output);
+
+        for (OrderItemRequest item : items) {
+            int header = item.type() != null ? item.type().ordinal() : TYPE_MISSING;
+            header |= item.quantity() != null ? HAS_QUANTITY : 0;
+            header |= item.daysOld() != null ? HAS_DAYS_OLD : 0;
+            header |= item.weightGrams() != null ? HAS_WEIGHT : 0;
+            header |= item.origin() != null ? HAS_ORIGIN : 0;
+            output.write(header);
+
+            if (item.quantity() != null) {
+                writeSigned(item.quantity(), output);
+            }
+            if (item.daysOld() != null) {
+                writeSigned(item.daysOld(), output);
+            }
+            if (item.weightGrams() != null) {
+                writeSigned(item.weightGrams(), output);
+            }
+            if (item.origin() != null) {
+                output.write(item.origin().ordinal());
+            }
+        }
+    }
+
+    /**
+     * Decode an order request.
+     *
+     * @param input Source stream
+     * @return The decoded order
+     * @throws IOException if the payload is truncated, malformed or followed by extra bytes
+     */
+    public static OrderRequest readOrder(InputStream input) throws IOException {
+        readVersion(input);
+        int count = readUnsigned(input);
+        List<OrderItemRequest> items = new ArrayList<>(Math.min(count, MAX_PREALLOCATED));
+
+        for (int i = 0; i < count; i++) {
+            int header = readByte(input);
+            if ((header & RESERVED_BITS) != 0) {
+                throw new IOException("Reserved item header bits set: " + header);
+            }
+            int typeCode = header & TYPE_MASK;
+            ProductType type = typeCode != TYPE_MISSING ? lookup(PRODUCT_TYPES, typeCode, "product type") : null;
+            Integer quantity = (header & HAS_QUANTITY) != 0 ? readSigned(input) : null;
+            Integer daysOld = (header & HAS_DAYS_OLD) != 0 ? readSigned(input) : null;
+            Integer weightGrams = (header & HAS_WEIGHT) != 0 ? readSigned(input) : null;
+            BeerOrigin origin = (header & HAS_ORIGIN) != 0
+                    ? lookup(BEER_ORIGINS, readByte(input), "beer origin")
+                    : null;
+            items.add(new OrderItemRequest(type, quantity, daysOld, weightGrams, origin));
+        }
+        if (input.read() >= 0) {
+            throw new IOException("Trailing bytes after last order item");
+        }
+        return new OrderRequest(items);
+    }
+
+    /**
+     * Encode a domain receipt.
+     *
+     * @param receipt The receipt to encode
+     * @param output  Destination stream
+     * @throws IOException if the stream cannot be written
+     */
+    public static void writeReceipt(Receipt receipt, OutputStream output) throws IOException {
+        output.write(VERSION);
+        writeUnsigned(receipt.lines().size(), output);
+        for (ReceiptLine line : receipt.lines()) {
+            writeLine(line.description(), line.originalPrice(), line.discount(), line.finalPrice(), output);
+        }
+        writeTotals(receipt.subtotal(), receipt.totalDiscount(), receipt.total(), output);
+    }
+
+    /**
+     * Decode a receipt.
+     *
+     * @param input Source stream
+     * @return The decoded receipt
+     * @throws IOException if the payload is truncated or malformed
+     */
+    public static ReceiptResponse readReceipt(InputStream input) throws IOException {
+        readVersion(input);
+        int count = readUnsigned(input);
+        List<ReceiptLineResponse> lines = new ArrayList<>(Math.min(count, MAX_PREALLOCATED));
+
+        for (int i = 0; i < count; i++) {
+            int length = readUnsigned(input);
+            byte[] description = input.readNBytes(length);
+            if (description.length < length) {
+                throw new EOFException("Truncated wire payload");
+            }
+            lines.add(new ReceiptLineResponse(
+                    new String(description, StandardCharsets.UTF_8),
+                    readMoney(input),
+                    readMoney(input),
+                    readMoney(input)
+            ));
+        }
+        return new ReceiptResponse(lines, readMoney(input), readMoney(input), readMoney(input));
+    }
+
+    private static void writeLine(
+            String description,
+            BigDecimal originalPrice,
+            BigDecimal discount,
+            BigDecimal finalPrice,
+            OutputStream output
+    ) throws IOException {
+        byte[] text = description.getBytes(StandardCharsets.UTF_8);
+        writeUnsigned(text.length, output);
+        output.write(text);
+        writeMoney(originalPrice, output);
+        writeMoney(discount, output);
+        writeMoney(finalPrice, output);
+    }
+
+    private static void writeTotals(
+            BigDecimal subtotal,
+            BigDecimal totalDiscount,
+            BigDecimal total,
+            OutputStream output
+    ) throws IOException {
+        writeMoney(subtotal, output);
+        writeMoney(totalDiscount, output);
+        writeMoney(total, output);
+    }
+
+    /**
+     * @throws ArithmeticException if the amount has more than two decimal places
+     */
+    private static void writeMoney(BigDecimal amount, OutputStream output) throws IOException {
+        long cents = amount.setScale(MONEY_SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        writeSignedLong(cents, output);
+    }
+
+    private static BigDecimal readMoney(InputStream input) throws IOException {
+        return BigDecimal.valueOf(readSignedLong(input), MONEY_SCALE);
+    }
+
+    private static void readVersion(InputStream input) throws IOException {
+        int version = readByte(input);
+        if (version != VERSION) {
+            throw new IOException("Unsupported wire format version: " + version);
+        }
+    }
+
+    private static void writeUnsigned(int value, OutputStream output) throws IOException {
+        writeVarint(value, output);
+    }
+
+    private static void writeSigned(int value, OutputStream output) throws IOException {
+        writeSignedLong(value, output);
+    }
+
+    private static void writeSignedLong(long value, OutputStream output) throws IOException {
+        // Zigzag keeps small negative values short
+        writeVarint((value << 1) ^ (value >> 63), output);
+    }
+
+    private static void writeVarint(long value, OutputStream output) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            output.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        output.write((int) value);
+    }
+
+    private static int readUnsigned(InputStream input) throws IOException {
+        long value = readVarint(input);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IOException("Length out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    private static int readSigned(InputStream input) throws IOException {
+        long value = readSignedLong(input);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IOException("Integer out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    private static long readSignedLong(InputStream input) throws IOException {
+        long encoded = readVarint(input);
+        return (encoded >>> 1) ^ -(encoded & 1);
+    }
+
+    private static long readVarint(InputStream input) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int next = readByte(input);
+            value |= (long) (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Varint too long");
+    }
+
+    private static int readByte(InputStream input) throws IOException {
+        int next = input.read();
+        if (next < 0) {
+            throw new EOFException("Truncated wire payload");
+        }
+        return next;
+    }
+
+    private static <E> E lookup(E[] values, int ordinal, String name) throws IOException {
+        if (ordinal >= values.length) {
+            throw new IOException("Unknown " + name + " code: " + ordinal);
+        }
+        return values[ordinal];
+    }
+}
@@ -0,0 +1,63 @@
+package com.online.grocery.pricing.api.codec;
+
+import com.online.grocery.pricing.api.dto.OrderRequest;
+import com.online.grocery.pricing.domain.model.Receipt;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Reads OrderRequest bodies and writes domain Receipt bodies in the
+ * {@value OrderWireCodec#MEDIA_TYPE_VALUE} format.
+ *
+ * <p>Registered as a bean so Spring Boot adds it to the MVC converter list alongside
+ * the JSON, CBOR and Smile converters; clients opt in via Content-Type and Accept.</p>
+ */
+@Component
+public class OrderWireHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(OrderWireCodec.MEDIA_TYPE_VALUE);
+
+    public OrderWireHttpMessageConverter() {
+        super(MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return OrderRequest.class == clazz || Receipt.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return OrderRequest.class == clazz && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return Receipt.class == clazz && canWrite(mediaType);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try {
+            return OrderWireCodec.readOrder(new BufferedInputStream(inputMessage.getBody()));
+        } catch (IOException ex) {
+            throw new HttpMessageNotReadableException("Malformed wire payload: " + ex.getMessage(), ex, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object receipt, HttpOutputMessage outputMessage) throws IOException {
+        OutputStream output = new BufferedOutputStream(outputMessage.getBody());
+        OrderWireCodec.writeReceipt((Receipt) receipt, output);
+        output.flush();
+    }
+}
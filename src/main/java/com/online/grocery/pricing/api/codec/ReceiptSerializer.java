@@ -0,0 +1,67 @@
+package com.online.grocery.pricing.api.codec;
+
+import com.online.grocery.pricing.domain.model.Receipt;
+import com.online.grocery.pricing.domain.model.ReceiptLine;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import java.util.List;
+
+/**
+ * Writes a domain Receipt in the ReceiptResponse JSON shape, so handlers can return
+ * the priced receipt without copying it into response DTOs first. Property names are
+ * encoded once and amounts are written without intermediate strings.
+ */
+public class ReceiptSerializer extends StdSerializer<Receipt> {
+
+    private static final SerializableString LINES = new SerializedString("lines");
+    private static final SerializableString SUBTOTAL = new SerializedString("subtotal");
+    private static final SerializableString TOTAL_DISCOUNT = new SerializedString("totalDiscount");
+    private static final SerializableString TOTAL = new SerializedString("total");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString ORIGINAL_PRICE = new SerializedString("originalPrice");
+    private static final SerializableString DISCOUNT = new SerializedString("discount");
+    private static final SerializableString FINAL_PRICE = new SerializedString("finalPrice");
+
+    public ReceiptSerializer() {
+        super(Receipt.class);
+    }
+
+    @Override
+    public void serialize(Receipt receipt, JsonGenerator generator, SerializationContext ctxt) {
+        generator.writeStartObject(receipt);
+
+        generator.writeName(LINES);
+        List<ReceiptLine> lines = receipt.lines();
+        generator.writeStartArray(lines, lines.size());
+        for (ReceiptLine line : lines) {
+            writeLine(line, generator);
+        }
+        generator.writeEndArray();
+
+        generator.writeName(SUBTOTAL);
+        JsonValues.writeDecimal(generator, receipt.subtotal());
+        generator.writeName(TOTAL_DISCOUNT);
+        JsonValues.writeDecimal(generator, receipt.totalDiscount());
+        generator.writeName(TOTAL);
+        JsonValues.writeDecimal(generator, receipt.total());
+
+        generator.writeEndObject();
+    }
+
+    private static void writeLine(ReceiptLine line, JsonGenerator generator) {
+        generator.writeStartObject(line);
+        generator.writeName(DESCRIPTION);
+        generator.writeString(line.description());
+        generator.writeName(ORIGINAL_PRICE);
+        JsonValues.writeDecimal(generator, line.originalPrice());
+        generator.writeName(DISCOUNT);
+        JsonValues.writeDecimal(generator, line.discount());
+        generator.writeName(FINAL_PRICE);
+        JsonValues.writeDecimal(generator, line.finalPrice());
+        generator.writeEndObject();
+    }
+}
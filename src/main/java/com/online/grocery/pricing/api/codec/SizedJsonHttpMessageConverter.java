@@ -0,0 +1,124 @@
+package com.online.grocery.pricing.api.codec;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+/**
+ * JSON converter that gives small bodies a Content-Length.
+ *
+ * <p>The stock converter flushes while writing, which commits the response as chunked.
+ * Without a length the servlet container cannot apply
+ * {@code server.compression.min-response-size} and compresses even tiny receipts.
+ * Bodies are held in memory only up to that size: a body that outgrows it would be
+ * compressed anyway, so the held bytes are passed on and the rest is written straight
+ * to the response without a length.</p>
+ */
+public class SizedJsonHttpMessageConverter extends JacksonJsonHttpMessageConverter {
+
+    private final int maxBufferedBytes;
+
+    /**
+     * @param jsonMapper       Mapper used to write bodies
+     * @param maxBufferedBytes Largest body sent with a Content-Length; 0 disables buffering
+     */
+    public SizedJsonHttpMessageConverter(JsonMapper jsonMapper, int maxBufferedBytes) {
+        super(jsonMapper);
+        this.maxBufferedBytes = maxBufferedBytes;
+    }
+
+    @Override
+    protected void writeInternal(
+            Object object,
+            ResolvableType resolvableType,
+            HttpOutputMessage outputMessage,
+            @Nullable Map<String, Object> hints
+    ) throws IOException {
+        if (maxBufferedBytes <= 0) {
+            super.writeInternal(object, resolvableType, outputMessage, hints);
+            return;
+        }
+
+        SizingOutputStream body = new SizingOutputStream(outputMessage, maxBufferedBytes);
+        super.writeInternal(object, resolvableType, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        }, hints);
+        body.finish();
+    }
+
+    /**
+     * Holds the first bytes of a body until it either completes, in which case its
+     * length is known, or exceeds the limit, after which it writes straight through.
+     */
+    private static final class SizingOutputStream extends OutputStream {
+
+        private final HttpOutputMessage target;
+        private final int limit;
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+        private OutputStream passThrough;
+
+        private SizingOutputStream(HttpOutputMessage target, int limit) {
+            this.target = target;
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (passThrough == null && buffer.size() + length > limit) {
+                passThrough = target.getBody();
+                buffer.writeTo(passThrough);
+                buffer = null;
+            }
+            if (passThrough != null) {
+                passThrough.write(bytes, offset, length);
+            } else {
+                buffer.write(bytes, offset, length);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // Held bytes are flushed by finish(); flushing early would commit the response
+            if (passThrough != null) {
+                passThrough.flush();
+            }
+        }
+
+        @Override
+        public void close() {
+            // The response stream is closed by the container
+        }
+
+        void finish() throws IOException {
+            if (passThrough != null) {
+                passThrough.flush();
+                return;
+            }
+            target.getHeaders().setContentLength(buffer.size());
+            OutputStream output = target.getBody();
+            buffer.writeTo(output);
+            output.flush();
+        }
+    }
+}
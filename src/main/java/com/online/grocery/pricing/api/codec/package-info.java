@@ -0,0 +1,5 @@
+/**
+ * Wire Codecs.
+ * Compact binary encodings and hand-written JSON (de)serializers for order, receipt and error payloads.
+ */
+package com.online.grocery.pricing.api.codec;
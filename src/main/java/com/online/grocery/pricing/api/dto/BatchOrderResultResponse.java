@@ -0,0 +1,20 @@
+package com.online.grocery.pricing.api.dto;
+
+import com.online.grocery.pricing.domain.model.Receipt;
+
+/**
+ * Response DTO for a single order within a batch calculation.
+ * Exactly one of receipt or error is set.
+ *
+ * @param index   Position of the order in the batch request
+ * @param status  HTTP status the order would have produced on its own
+ * @param receipt Receipt for a successfully priced order, written in the ReceiptResponse shape
+ * @param error   Error details for a rejected order
+ */
+public record BatchOrderResultResponse(
+        int index,
+        int status,
+        Receipt receipt,
+        ErrorResponse error
+) {
+}
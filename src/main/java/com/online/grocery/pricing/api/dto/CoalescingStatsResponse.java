@@ -0,0 +1,17 @@
+package com.online.grocery.pricing.api.dto;
+
+/**
+ * Response DTO for single-flight coalescing counters.
+ *
+ * @param enabled         Whether coalescing is switched on
+ * @param requests        Orders priced through the coalescing layer
+ * @param coalesced       Orders that reused another request's in-flight result
+ * @param coalescingRatio Share of orders that were coalesced, between 0 and 1
+ */
+public record CoalescingStatsResponse(
+        boolean enabled,
+        long requests,
+        long coalesced,
+        double coalescingRatio
+) {
+}
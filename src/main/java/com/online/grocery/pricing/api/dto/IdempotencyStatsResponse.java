@@ -0,0 +1,19 @@
+package com.online.grocery.pricing.api.dto;
+
+/**
+ * Response DTO for Idempotency-Key store counters.
+ *
+ * @param entries Keys currently stored
+ * @param bytes   Approximate heap held by stored entries
+ * @param hits    Requests answered from a stored result
+ * @param misses  Requests that priced and stored a new result
+ * @param hitRate Share of keyed requests that were hits, between 0 and 1
+ */
+public record IdempotencyStatsResponse(
+        int entries,
+        long bytes,
+        long hits,
+        long misses,
+        double hitRate
+) {
+}
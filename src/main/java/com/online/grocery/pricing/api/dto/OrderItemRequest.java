@@ -5,11 +5,11 @@ import com.online.grocery.pricing.domain.enums.ProductType;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Min;
-import jakarta.validation.constraints.Max;
 
 /**
  * Unified request DTO for all product types.
- * Type-specific validation is handled by OrderMapper.
+ * All validation, including the configured bread age limit, is handled by OrderMapper;
+ * the annotations document the schema.
  */
 public record OrderItemRequest(
         @NotNull(message = "Product type required")
@@ -19,7 +19,6 @@ public record OrderItemRequest(
         Integer quantity,
 
         @Min(value = 0, message = "Age cannot be negative")
-        @Max(value = 6, message = "Bread older than 6 days not allowed")
         Integer daysOld,
 
         @Positive(message = "Weight must be positive")
@@ -1,16 +1,15 @@
 package com.online.grocery.pricing.api.dto;
 
-import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 
 import java.util.List;
 
 /**
  * Request DTO for order calculation endpoint.
+ * Validated by OrderMapper while it maps the items.
  */
 public record OrderRequest(
         @NotEmpty(message = "At least one item required")
-        @Valid
         List<OrderItemRequest> items
 ) {
 }
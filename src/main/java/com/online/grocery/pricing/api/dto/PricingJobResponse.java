@@ -0,0 +1,12 @@
+package com.online.grocery.pricing.api.dto;
+
+import com.online.grocery.pricing.domain.enums.JobStatus;
+
+/**
+ * Response DTO describing an asynchronous pricing job.
+ */
+public record PricingJobResponse(
+        String jobId,
+        JobStatus status
+) {
+}
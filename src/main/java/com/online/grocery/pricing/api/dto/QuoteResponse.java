@@ -0,0 +1,19 @@
+package com.online.grocery.pricing.api.dto;
+
+import com.online.grocery.pricing.domain.model.Receipt;
+
+import java.time.Instant;
+
+/**
+ * Response DTO for a signed price quote.
+ *
+ * @param receipt   Priced receipt, written in the ReceiptResponse shape
+ * @param token     Signed token to present at checkout with the same order
+ * @param expiresAt Time after which the token is no longer accepted
+ */
+public record QuoteResponse(
+        Receipt receipt,
+        String token,
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,19 @@
+package com.online.grocery.pricing.api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Request DTO for verifying a price quote.
+ *
+ * @param order The order being checked out, validated by OrderMapper
+ * @param token Token returned when the order was quoted
+ */
+public record QuoteVerificationRequest(
+        @NotNull(message = "Order is required")
+        OrderRequest order,
+
+        @NotBlank(message = "Quote token is required")
+        String token
+) {
+}
@@ -0,0 +1,26 @@
+package com.online.grocery.pricing.api.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Response DTO for a verified price quote.
+ *
+ * @param repriced      Whether the pricing rules changed since the quote, so the order was priced again
+ * @param priceChanged  Whether the total differs from the quoted total
+ * @param subtotal      Sum of all original prices
+ * @param totalDiscount Sum of all discounts applied
+ * @param total         Final total to charge
+ * @param token         The verified token, or a new one when the order was priced again
+ * @param expiresAt     Time after which the token is no longer accepted
+ */
+public record QuoteVerificationResponse(
+        boolean repriced,
+        boolean priceChanged,
+        BigDecimal subtotal,
+        BigDecimal totalDiscount,
+        BigDecimal total,
+        String token,
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,14 @@
+package com.online.grocery.pricing.api.dto;
+
+import com.online.grocery.pricing.domain.enums.ProductType;
+
+import java.util.List;
+
+/**
+ * Server-sent event payload carrying the receipt lines of one product type.
+ */
+public record ReceiptLinesEventResponse(
+        ProductType productType,
+        List<ReceiptLineResponse> lines
+) {
+}
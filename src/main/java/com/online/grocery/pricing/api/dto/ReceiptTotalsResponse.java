@@ -0,0 +1,13 @@
+package com.online.grocery.pricing.api.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Server-sent event payload carrying the final receipt totals.
+ */
+public record ReceiptTotalsResponse(
+        BigDecimal subtotal,
+        BigDecimal totalDiscount,
+        BigDecimal total
+) {
+}
@@ -2,100 +2,192 @@ package com.online.grocery.pricing.api.mapper;
 
 import com.online.grocery.pricing.api.dto.OrderItemRequest;
 import com.online.grocery.pricing.api.dto.OrderRequest;
+import com.online.grocery.pricing.api.dto.ReceiptLineResponse;
+import com.online.grocery.pricing.config.PricingConfiguration;
+import com.online.grocery.pricing.domain.enums.ProductType;
 import com.online.grocery.pricing.domain.model.BreadItem;
 import com.online.grocery.pricing.domain.model.Order;
 import com.online.grocery.pricing.domain.model.OrderItem;
+import com.online.grocery.pricing.domain.model.ReceiptLine;
 import com.online.grocery.pricing.domain.model.VegetableItem;
 import com.online.grocery.pricing.domain.model.BeerItem;
 import com.online.grocery.pricing.exception.InvalidOrderException;
+import com.online.grocery.pricing.exception.OrderValidationException;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
- * Mapper for converting API DTOs to domain models.
- * Handles type-specific validation for OrderItemRequest.
+ * Mapper for converting between API DTOs and domain models.
+ *
+ * <p>Order requests are validated and mapped in a single pass: every field constraint
+ * and type-specific requirement is checked while the domain items are built, and all
+ * violations are reported together. Field violations are reported as an
+ * OrderValidationException (400); missing type-specific fields only as an
+ * InvalidOrderException (422) once every field is valid. The bread age limit comes from
+ * {@code pricing.bread.max-age-days}. StreamingOrderReader collects violations across a
+ * streamed order the same way. At most {@value Violations#MAX_REPORTED} violations of each
+ * kind are reported, so a huge order with many bad items stays bounded in memory.</p>
  */
 @Component
 public class OrderMapper {
 
+    private static final String ITEMS_FIELD = "items";
+
+    private final PricingConfiguration config;
+
+    public OrderMapper(PricingConfiguration config) {
+        this.config = config;
+    }
+
     /**
-     * Convert OrderRequest DTO to domain Order model.
-     * Validates type-specific field requirements before conversion.
+     * Validate an OrderRequest DTO and convert it to the domain Order model.
      *
      * @param request The order request from API
      * @return Domain Order object
-     * @throws InvalidOrderException if required fields for type are missing
+     * @throws OrderValidationException if any field constraint is violated
+     * @throws InvalidOrderException    if required fields for a type are missing
      */
     public Order mapToOrder(OrderRequest request) {
-        List<OrderItem> items = request.items().stream()
-                .map(this::mapToOrderItem)
-                .toList();
+        List<OrderItemRequest> itemRequests = request != null ? request.items() : null;
+        if (itemRequests == null || itemRequests.isEmpty()) {
+            throw OrderValidationException.emptyOrder();
+        }
+
+        Violations violations = new Violations();
+        List<OrderItem> items = new ArrayList<>(itemRequests.size());
+        for (int index = 0; index < itemRequests.size(); index++) {
+            OrderItem item = mapItem(index, itemRequests.get(index), violations);
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        violations.throwIfAny();
 
         return new Order(items);
     }
 
     /**
-     * Convert single OrderItemRequest to appropriate OrderItem domain model.
-     * Throws InvalidOrderException if required fields for type are missing.
+     * Convert a domain ReceiptLine to its response DTO.
+     *
+     * @param line The calculated receipt line
+     * @return Receipt line response for the API
      */
-    private OrderItem mapToOrderItem(OrderItemRequest itemRequest) {
-        validateItemRequest(itemRequest);
-
-        return switch (itemRequest.type()) {
-            case BREAD -> new BreadItem(
-                    itemRequest.quantity(),
-                    itemRequest.daysOld()
-            );
-            case VEGETABLE -> new VegetableItem(
-                    itemRequest.weightGrams()
-            );
-            case BEER -> new BeerItem(
-                    itemRequest.quantity(),
-                    itemRequest.origin()
-            );
+    public ReceiptLineResponse toReceiptLineResponse(ReceiptLine line) {
+        return new ReceiptLineResponse(
+                line.description(),
+                line.originalPrice(),
+                line.discount(),
+                line.finalPrice()
+        );
+    }
+
+    /**
+     * Check every constraint of one item and build it if none is violated.
+     * Mirrors the annotations on OrderItemRequest, with the configured bread age limit.
+     *
+     * @param index      Position of the item in its order, used in violation paths
+     * @param item       The item request from API
+     * @param violations Collects this item's violations alongside those of earlier items
+     * @return The domain item, or null if the item has violations
+     */
+    OrderItem mapItem(int index, OrderItemRequest item, Violations violations) {
+        String path = ITEMS_FIELD + "[" + index + "]";
+        if (item == null) {
+            violations.field(path, "Item required");
+            return null;
+        }
+
+        int fieldErrors = violations.fieldCount();
+        Integer quantity = item.quantity();
+        Integer daysOld = item.daysOld();
+        Integer weightGrams = item.weightGrams();
+        int maxAgeDays = config.getBread().getMaxAgeDays();
+
+        if (item.type() == null) {
+            violations.field(path + ".type", "Product type required");
+        }
+        if (quantity != null && quantity <= 0) {
+            violations.field(path + ".quantity", "Quantity must be positive");
+        }
+        if (daysOld != null && daysOld < 0) {
+            violations.field(path + ".daysOld", "Age cannot be negative");
+        } else if (daysOld != null && daysOld > maxAgeDays) {
+            violations.field(path + ".daysOld", "Bread older than " + maxAgeDays + " days not allowed");
+        }
+        if (weightGrams != null && weightGrams <= 0) {
+            violations.field(path + ".weightGrams", "Weight must be positive");
+        }
+        if (violations.fieldCount() > fieldErrors) {
+            return null;
+        }
+
+        return switch (item.type()) {
+            case BREAD -> {
+                boolean complete = violations.require(quantity, path, "quantity", ProductType.BREAD)
+                        & violations.require(daysOld, path, "daysOld", ProductType.BREAD);
+                yield complete ? new BreadItem(quantity, daysOld) : null;
+            }
+            case VEGETABLE -> violations.require(weightGrams, path, "weightGrams", ProductType.VEGETABLE)
+                    ? new VegetableItem(weightGrams)
+                    : null;
+            case BEER -> {
+                boolean complete = violations.require(quantity, path, "quantity", ProductType.BEER)
+                        & violations.require(item.origin(), path, "origin", ProductType.BEER);
+                yield complete ? new BeerItem(quantity, item.origin()) : null;
+            }
         };
     }
 
     /**
-     * Validate that required fields for the product type are present.
-     * Throws InvalidOrderException with descriptive error message.
+     * Violations collected while mapping one order.
      */
-    private void validateItemRequest(OrderItemRequest request) {
-        switch (request.type()) {
-            case BREAD:
-                if (request.quantity() == null) {
-                    throw new InvalidOrderException(
-                            "quantity field required for product type BREAD"
-                    );
-                }
-                if (request.daysOld() == null) {
-                    throw new InvalidOrderException(
-                            "daysOld field required for product type BREAD"
-                    );
-                }
-                break;
-
-            case VEGETABLE:
-                if (request.weightGrams() == null) {
-                    throw new InvalidOrderException(
-                            "weightGrams field required for product type VEGETABLE"
-                    );
-                }
-                break;
-
-            case BEER:
-                if (request.quantity() == null) {
-                    throw new InvalidOrderException(
-                            "quantity field required for product type BEER"
-                    );
-                }
-                if (request.origin() == null) {
-                    throw new InvalidOrderException(
-                            "origin field required for product type BEER"
-                    );
-                }
-                break;
+    static final class Violations {
+
+        static final int MAX_REPORTED = 100;
+
+        private final Map<String, String> fields = new LinkedHashMap<>();
+        private final Map<String, String> rules = new LinkedHashMap<>();
+        private int fieldCount;
+
+        void field(String path, String message) {
+            fieldCount++;
+            if (fields.size() < MAX_REPORTED) {
+                fields.put(path, message);
+            }
+        }
+
+        /**
+         * Field violations found so far, including any beyond the reported limit.
+         */
+        int fieldCount() {
+            return fieldCount;
+        }
+
+        boolean isEmpty() {
+            return fieldCount == 0 && rules.isEmpty();
+        }
+
+        boolean require(Object value, String path, String field, ProductType type) {
+            if (value != null) {
+                return true;
+            }
+            if (rules.size() < MAX_REPORTED) {
+                rules.put(path + "." + field, field + " field required for product type " + type);
+            }
+            return false;
+        }
+
+        void throwIfAny() {
+            if (!fields.isEmpty()) {
+                throw new OrderValidationException(fields);
+            }
+            if (!rules.isEmpty()) {
+                throw new InvalidOrderException(rules.values().iterator().next(), rules);
+            }
         }
     }
 }
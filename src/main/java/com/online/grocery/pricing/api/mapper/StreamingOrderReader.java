@@ -0,0 +1,101 @@
+package com.online.grocery.pricing.api.mapper;
+
+import com.online.grocery.pricing.api.dto.OrderItemRequest;
+import com.online.grocery.pricing.config.PricingConfiguration;
+import com.online.grocery.pricing.domain.model.OrderItem;
+import com.online.grocery.pricing.exception.InvalidOrderException;
+import com.online.grocery.pricing.exception.OrderValidationException;
+import com.online.grocery.pricing.pricing.context.OrderAccumulator;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.InputStream;
+
+/**
+ * Reads an OrderRequest JSON body token by token and folds each item into an
+ * OrderAccumulator as soon as it is parsed.
+ *
+ * <p>Items are validated and mapped one at a time by OrderMapper, as in the
+ * buffered path, but neither the request item list nor the domain item list is
+ * ever built, so memory use does not depend on the number of items. Violations are
+ * collected across the whole body and reported together, as in the buffered path;
+ * once one is found the remaining items are still checked but no longer added.</p>
+ */
+@Component
+public class StreamingOrderReader {
+
+    private static final String ITEMS_FIELD = "items";
+
+    private final JsonMapper jsonMapper;
+    private final ObjectReader itemReader;
+    private final OrderMapper orderMapper;
+    private final PricingConfiguration config;
+
+    public StreamingOrderReader(
+            JsonMapper jsonMapper,
+            OrderMapper orderMapper,
+            PricingConfiguration config
+    ) {
+        this.jsonMapper = jsonMapper;
+        // Items are read one array element at a time, so the rest of the array trails each value
+        this.itemReader = jsonMapper.readerFor(OrderItemRequest.class)
+                .without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        this.orderMapper = orderMapper;
+        this.config = config;
+    }
+
+    /**
+     * Read an order body and aggregate its items.
+     *
+     * @param input Stream holding a JSON OrderRequest
+     * @return Totals for every item in the order
+     * @throws OrderValidationException if the body is malformed or any item fails field validation
+     * @throws InvalidOrderException    if required fields for a type are missing
+     */
+    public OrderAccumulator readOrder(InputStream input) {
+        OrderAccumulator totals = new OrderAccumulator(config.getBread().getMaxAgeDays());
+        OrderMapper.Violations violations = new OrderMapper.Violations();
+        int itemCount = 0;
+
+        try (JsonParser parser = jsonMapper.createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw malformed();
+            }
+
+            while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if (ITEMS_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        OrderItemRequest itemRequest = itemReader.readValue(parser);
+                        OrderItem item = orderMapper.mapItem(itemCount, itemRequest, violations);
+                        if (item != null && violations.isEmpty()) {
+                            totals.add(item);
+                        }
+                        itemCount++;
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (JacksonException ex) {
+            throw malformed();
+        }
+
+        if (itemCount == 0) {
+            throw OrderValidationException.emptyOrder();
+        }
+        violations.throwIfAny();
+        return totals;
+    }
+
+    private static OrderValidationException malformed() {
+        return OrderValidationException.malformedBody();
+    }
+}
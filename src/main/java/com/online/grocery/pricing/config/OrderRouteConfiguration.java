@@ -0,0 +1,51 @@
+package com.online.grocery.pricing.config;
+
+import com.online.grocery.pricing.api.OrderRouteHandler;
+import com.online.grocery.pricing.api.mapper.OrderMapper;
+import com.online.grocery.pricing.service.CoalescingPricingService;
+import com.online.grocery.pricing.service.IdempotencyService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.function.RequestPredicate;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.ServerResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.springframework.web.servlet.function.RequestPredicates.POST;
+import static org.springframework.web.servlet.function.RequestPredicates.accept;
+import static org.springframework.web.servlet.function.RequestPredicates.contentType;
+import static org.springframework.web.servlet.function.RequestPredicates.headers;
+import static org.springframework.web.servlet.function.RouterFunctions.route;
+
+/**
+ * Functional route for /api/v1/orders/calculate, enabled with
+ * {@code pricing.functional-route.enabled}.
+ *
+ * <p>Router functions are consulted before annotated controllers. The route only
+ * matches JSON requests without an Idempotency-Key, so binary formats and keyed
+ * retries still reach OrderController.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "pricing.functional-route", name = "enabled", havingValue = "true")
+public class OrderRouteConfiguration {
+
+    @Bean
+    public OrderRouteHandler orderRouteHandler(
+            JsonMapper jsonMapper,
+            OrderMapper orderMapper,
+            CoalescingPricingService pricingService
+    ) {
+        return new OrderRouteHandler(jsonMapper, orderMapper, pricingService);
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> orderCalculateRoute(OrderRouteHandler handler) {
+        RequestPredicate plainJson = POST("/api/v1/orders/calculate")
+                .and(contentType(MediaType.APPLICATION_JSON))
+                .and(accept(MediaType.APPLICATION_JSON))
+                .and(headers(headers -> headers.header(IdempotencyService.HEADER).isEmpty()));
+        return route(plainJson, handler::calculate);
+    }
+}
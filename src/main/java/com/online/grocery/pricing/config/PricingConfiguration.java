@@ -13,6 +13,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.annotation.Validated;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 
 /**
  * Configuration properties for all pricing rules.
@@ -42,6 +43,30 @@ public class PricingConfiguration {
     @Valid
     private BeerRules beer = new BeerRules();
 
+    @Valid
+    private BatchSettings batch = new BatchSettings();
+
+    @Valid
+    private StreamSettings stream = new StreamSettings();
+
+    @Valid
+    private TcpSettings tcp = new TcpSettings();
+
+    @Valid
+    private JobSettings jobs = new JobSettings();
+
+    @Valid
+    private CoalescingSettings coalescing = new CoalescingSettings();
+
+    @Valid
+    private IdempotencySettings idempotency = new IdempotencySettings();
+
+    @Valid
+    private FunctionalRouteSettings functionalRoute = new FunctionalRouteSettings();
+
+    @Valid
+    private QuoteSettings quote = new QuoteSettings();
+
     /**
      * Bread-specific discount rules configuration.
      */
@@ -130,4 +155,151 @@ public class PricingConfiguration {
         private BigDecimal germanPackDiscount = new BigDecimal("4.00");
 
     }
+
+    /**
+     * Batch pricing limits and executor sizing.
+     */
+    @Setter
+    @Getter
+    @Validated
+    public static class BatchSettings {
+
+        @Min(value = 1, message = "Max orders per batch must be at least 1")
+        private int maxOrders = 1000;
+
+        @Min(value = 1, message = "Batch parallelism must be at least 1")
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        @Min(value = 0, message = "Batch queue capacity cannot be negative")
+        private int queueCapacity = 1000;
+
+    }
+
+    /**
+     * NDJSON streaming limits.
+     */
+    @Setter
+    @Getter
+    @Validated
+    public static class StreamSettings {
+
+        @Min(value = 1, message = "Max in-flight orders must be at least 1")
+        private int maxInFlight = 64;
+
+        @Min(value = 1, message = "Max line length must be at least 1")
+        private int maxLineLength = 64 * 1024;
+
+    }
+
+    /**
+     * Optional binary TCP listener settings.
+     */
+    @Setter
+    @Getter
+    @Validated
+    public static class TcpSettings {
+
+        private boolean enabled = false;
+
+        @NotNull(message = "TCP host is required")
+        private String host = "127.0.0.1";
+
+        @Min(value = 0, message = "TCP port cannot be negative")
+        @Max(value = 65535, message = "TCP port cannot exceed 65535")
+        private int port = 9090;
+
+        @Min(value = 16, message = "Max frame size must be at least 16 bytes")
+        private int maxFrameBytes = 64 * 1024;
+
+    }
+
+    /**
+     * Asynchronous pricing job pool, retention and polling limits.
+     */
+    @Setter
+    @Getter
+    @Validated
+    public static class JobSettings {
+
+        @Min(value = 1, message = "Job parallelism must be at least 1")
+        private int parallelism = 2;
+
+        @Min(value = 0, message = "Job queue capacity cannot be negative")
+        private int queueCapacity = 16;
+
+        @Min(value = 1, message = "Max job body size must be at least 1 byte")
+        @Max(value = 1024 * 1024 * 1024, message = "Max job body size cannot exceed 1 GiB")
+        private int maxBodyBytes = 8 * 1024 * 1024;
+
+        @NotNull(message = "Job result TTL is required")
+        private Duration resultTtl = Duration.ofMinutes(10);
+
+        @NotNull(message = "Job max wait is required")
+        private Duration maxWait = Duration.ofSeconds(20);
+
+    }
+
+    /**
+     * Single-flight coalescing of identical concurrent orders.
+     */
+    @Setter
+    @Getter
+    @Validated
+    public static class CoalescingSettings {
+
+        private boolean enabled = false;
+
+    }
+
+    /**
+     * Idempotency-Key result store limits.
+     */
+    @Setter
+    @Getter
+    @Validated
+    public static class IdempotencySettings {
+
+        @Min(value = 1, message = "Max idempotency entries must be at least 1")
+        private int maxEntries = 10_000;
+
+        @Min(value = 1024, message = "Max idempotency store size must be at least 1 KiB")
+        private long maxBytes = 16 * 1024 * 1024;
+
+        @NotNull(message = "Idempotency TTL is required")
+        private Duration ttl = Duration.ofHours(1);
+
+        @Min(value = 1, message = "Max idempotency key length must be at least 1")
+        private int maxKeyLength = 255;
+
+        @NotNull(message = "Idempotency max wait is required")
+        private Duration maxWait = Duration.ofSeconds(30);
+
+    }
+
+    /**
+     * Functional route for the plain JSON /calculate case.
+     */
+    @Setter
+    @Getter
+    @Validated
+    public static class FunctionalRouteSettings {
+
+        private boolean enabled = false;
+
+    }
+
+    /**
+     * Signed price quote settings.
+     */
+    @Setter
+    @Getter
+    @Validated
+    public static class QuoteSettings {
+
+        private String secret;
+
+        @NotNull(message = "Quote TTL is required")
+        private Duration ttl = Duration.ofMinutes(15);
+
+    }
 }
@@ -0,0 +1,71 @@
+package com.online.grocery.pricing.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Executors used for fan-out pricing work.
+ *
+ * <p>The threading model follows {@code spring.threads.virtual.enabled}, the same switch
+ * that moves Tomcat request handling onto virtual threads.</p>
+ */
+@Configuration
+public class PricingExecutorConfiguration {
+
+    /**
+     * Bounded platform-thread executor for batch pricing.
+     * When the queue is full the submitting thread prices the order itself,
+     * which throttles callers instead of rejecting work.
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor batchPricingExecutor(PricingConfiguration config) {
+        PricingConfiguration.BatchSettings batch = config.getBatch();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(batch.getParallelism());
+        executor.setMaxPoolSize(batch.getParallelism());
+        executor.setQueueCapacity(batch.getQueueCapacity());
+        executor.setThreadNamePrefix("batch-pricing-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * Virtual-thread executor for batch pricing.
+     * Pricing is CPU-bound, so concurrency is still capped at the configured parallelism;
+     * submitters block until a slot frees up instead of queueing.
+     */
+    @Bean(name = "batchPricingExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualBatchPricingExecutor(PricingConfiguration config) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("batch-pricing-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(config.getBatch().getParallelism());
+        return executor;
+    }
+
+    /**
+     * Dedicated pool for asynchronous pricing jobs, kept apart from request and batch
+     * threads so bulk work never delays interactive traffic. Jobs beyond the queue
+     * capacity are rejected rather than run on the caller.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor pricingJobExecutor(PricingConfiguration config) {
+        PricingConfiguration.JobSettings jobs = config.getJobs();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(jobs.getParallelism());
+        executor.setMaxPoolSize(jobs.getParallelism());
+        executor.setQueueCapacity(jobs.getQueueCapacity());
+        executor.setThreadNamePrefix("pricing-job-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,45 @@
+package com.online.grocery.pricing.config;
+
+import com.online.grocery.pricing.api.codec.SizedJsonHttpMessageConverter;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.autoconfigure.ServerProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.ContentNegotiationConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Spring MVC configuration.
+ */
+@Configuration
+public class WebConfiguration implements WebMvcConfigurer {
+
+    /**
+     * JSON converter that sets Content-Length on bodies below the compression threshold,
+     * so the threshold applies to them. Replaces the auto-configured converter in the JSON slot.
+     */
+    @Bean
+    public JacksonJsonHttpMessageConverter jacksonJsonHttpMessageConverter(
+            JsonMapper jsonMapper,
+            ServerProperties serverProperties
+    ) {
+        Compression compression = serverProperties.getCompression();
+        int threshold = compression.getEnabled()
+                ? (int) compression.getMinResponseSize().toBytes()
+                : 0;
+        return new SizedJsonHttpMessageConverter(jsonMapper, threshold);
+    }
+
+    /**
+     * Custom converters such as the wire codec are registered ahead of the defaults,
+     * so a request without a specific Accept header prefers JSON explicitly and
+     * falls back to any type the handler can produce.
+     */
+    @Override
+    public void configureContentNegotiation(ContentNegotiationConfigurer configurer) {
+        configurer.defaultContentType(MediaType.APPLICATION_JSON, MediaType.ALL);
+    }
+}
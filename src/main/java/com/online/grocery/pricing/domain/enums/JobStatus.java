@@ -0,0 +1,10 @@
+package com.online.grocery.pricing.domain.enums;
+
+/**
+ * Lifecycle states of an asynchronous pricing job.
+ */
+public enum JobStatus {
+    PENDING,
+    COMPLETED,
+    FAILED
+}
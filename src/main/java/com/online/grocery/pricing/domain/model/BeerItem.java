@@ -3,8 +3,6 @@ package com.online.grocery.pricing.domain.model;
 import com.online.grocery.pricing.domain.enums.BeerOrigin;
 import com.online.grocery.pricing.domain.enums.ProductType;
 
-import java.util.Objects;
-
 /**
  * Represents beer items in an order.
  *
@@ -17,10 +15,8 @@ public record BeerItem(
 ) implements OrderItem {
 
     public BeerItem {
-        if (quantity <= 0) {
-            throw new IllegalArgumentException("Quantity must be positive");
-        }
-        Objects.requireNonNull(origin, "Beer origin required");
+        ItemRules.requireQuantity(quantity);
+        ItemRules.requireOrigin(origin);
     }
 
     @Override
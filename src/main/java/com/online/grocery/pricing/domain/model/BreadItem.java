@@ -1,13 +1,12 @@
 package com.online.grocery.pricing.domain.model;
 
 import com.online.grocery.pricing.domain.enums.ProductType;
-import com.online.grocery.pricing.exception.InvalidOrderException;
 
 /**
  * Represents bread items in an order.
  *
  * @param quantity Number of bread units
- * @param daysOld  Age of bread in days (0-6 valid)
+ * @param daysOld  Age of bread in days; the configured upper limit is applied when the order is priced
  */
 public record BreadItem(
         int quantity,
@@ -15,15 +14,8 @@ public record BreadItem(
 ) implements OrderItem {
 
     public BreadItem {
-        if (quantity <= 0) {
-            throw new IllegalArgumentException("Quantity must be positive");
-        }
-        if (daysOld < 0) {
-            throw new IllegalArgumentException("Age cannot be negative");
-        }
-        if (daysOld > 6) {
-            throw new InvalidOrderException("Bread older than 6 days cannot be ordered");
-        }
+        ItemRules.requireQuantity(quantity);
+        ItemRules.requireAge(daysOld);
     }
 
     @Override
@@ -0,0 +1,141 @@
+package com.online.grocery.pricing.domain.model;
+
+import com.online.grocery.pricing.domain.enums.BeerOrigin;
+import com.online.grocery.pricing.domain.enums.ProductType;
+
+import java.util.Arrays;
+
+/**
+ * An order whose items are packed one per {@code long} in a growable array.
+ *
+ * <p>Each packed item holds the {@link ProductType} ordinal in the top 8 bits, the
+ * quantity or weight in grams in the next 32 bits, and the bread age or
+ * {@link BeerOrigin} ordinal in the low 24 bits. An item costs 8 bytes instead of
+ * a record per item, which suits high-volume callers that only need the order priced.</p>
+ *
+ * <p>Items get the item records' field checks when added. The bread age limit from
+ * {@code pricing.bread.max-age-days} is applied when the order is priced.</p>
+ */
+public final class CompactOrder {
+
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int AMOUNT_SHIFT = 24;
+    private static final int TYPE_SHIFT = 56;
+    private static final long AMOUNT_MASK = 0xFFFF_FFFFL;
+    private static final int ATTRIBUTE_MASK = 0xFF_FFFF;
+    private static final ProductType[] TYPES = ProductType.values();
+    private static final BeerOrigin[] ORIGINS = BeerOrigin.values();
+
+    private long[] items;
+    private int size;
+
+    public CompactOrder() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param expectedItems Number of items to reserve space for
+     */
+    public CompactOrder(int expectedItems) {
+        this.items = new long[Math.max(expectedItems, 1)];
+    }
+
+    /**
+     * Pack the items of a domain order.
+     *
+     * @param order The order to pack
+     * @return Compact order with the same items in the same order
+     */
+    public static CompactOrder of(Order order) {
+        CompactOrder compact = new CompactOrder(order.getItems().size());
+        for (OrderItem item : order.getItems()) {
+            switch (item) {
+                case BreadItem bread -> compact.addBread(bread.quantity(), bread.daysOld());
+                case VegetableItem vegetable -> compact.addVegetable(vegetable.weightGrams());
+                case BeerItem beer -> compact.addBeer(beer.quantity(), beer.origin());
+            }
+        }
+        return compact;
+    }
+
+    public CompactOrder addBread(int quantity, int daysOld) {
+        ItemRules.requireQuantity(quantity);
+        ItemRules.requireAge(daysOld);
+        if (daysOld > ATTRIBUTE_MASK) {
+            throw new IllegalArgumentException("Age exceeds the supported range");
+        }
+        return append(pack(ProductType.BREAD, quantity, daysOld));
+    }
+
+    public CompactOrder addVegetable(int weightGrams) {
+        ItemRules.requireWeight(weightGrams);
+        return append(pack(ProductType.VEGETABLE, weightGrams, 0));
+    }
+
+    public CompactOrder addBeer(int quantity, BeerOrigin origin) {
+        ItemRules.requireQuantity(quantity);
+        ItemRules.requireOrigin(origin);
+        return append(pack(ProductType.BEER, quantity, origin.ordinal()));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Packed value of the item at the given position.
+     * Decode it with {@link #type(long)}, {@link #amount(long)} and {@link #attribute(long)}.
+     */
+    public long packed(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return items[index];
+    }
+
+    /**
+     * Product type of a packed item.
+     */
+    public static ProductType type(long packed) {
+        return TYPES[(int) (packed >>> TYPE_SHIFT)];
+    }
+
+    /**
+     * Quantity of a bread or beer item, or weight in grams of a vegetable item.
+     */
+    public static int amount(long packed) {
+        return (int) ((packed >>> AMOUNT_SHIFT) & AMOUNT_MASK);
+    }
+
+    /**
+     * Age in days of a bread item, or origin ordinal of a beer item; 0 for vegetables.
+     */
+    public static int attribute(long packed) {
+        return (int) packed & ATTRIBUTE_MASK;
+    }
+
+    /**
+     * Origin of a packed beer item.
+     */
+    public static BeerOrigin origin(long packed) {
+        return ORIGINS[attribute(packed)];
+    }
+
+    private CompactOrder append(long packed) {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, size * 2);
+        }
+        items[size++] = packed;
+        return this;
+    }
+
+    private static long pack(ProductType type, int amount, int attribute) {
+        return ((long) type.ordinal() << TYPE_SHIFT)
+                | ((amount & AMOUNT_MASK) << AMOUNT_SHIFT)
+                | attribute;
+    }
+}
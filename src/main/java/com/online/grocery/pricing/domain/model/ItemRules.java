@@ -0,0 +1,39 @@
+package com.online.grocery.pricing.domain.model;
+
+import com.online.grocery.pricing.domain.enums.BeerOrigin;
+
+import java.util.Objects;
+
+/**
+ * Field checks shared by the item records and the packed order layouts.
+ * The configured bread age limit is not checked here; it is applied when items are
+ * accumulated for pricing.
+ */
+final class ItemRules {
+
+    private ItemRules() {
+        // Utility class - prevent instantiation
+    }
+
+    static void requireQuantity(int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive");
+        }
+    }
+
+    static void requireAge(int daysOld) {
+        if (daysOld < 0) {
+            throw new IllegalArgumentException("Age cannot be negative");
+        }
+    }
+
+    static void requireWeight(int weightGrams) {
+        if (weightGrams <= 0) {
+            throw new IllegalArgumentException("Weight must be positive");
+        }
+    }
+
+    static void requireOrigin(BeerOrigin origin) {
+        Objects.requireNonNull(origin, "Beer origin required");
+    }
+}
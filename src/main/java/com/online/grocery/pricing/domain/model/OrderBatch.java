@@ -0,0 +1,191 @@
+package com.online.grocery.pricing.domain.model;
+
+import com.online.grocery.pricing.domain.enums.BeerOrigin;
+import com.online.grocery.pricing.domain.enums.ProductType;
+
+import java.util.Arrays;
+
+/**
+ * Many orders stored column by column in parallel primitive arrays.
+ *
+ * <p>Item {@code i} is described by {@code types[i]}, {@code quantities[i]},
+ * {@code ages[i]}, {@code origins[i]} and {@code weights[i]}; columns that do not
+ * apply to an item's type hold 0. The items of order {@code n} are those from
+ * {@code offsets[n]} (inclusive) to {@code offsets[n + 1]} (exclusive), and
+ * {@code orderIds[n]} is its caller-assigned id. Pricing a batch walks these arrays
+ * without creating an object per item.</p>
+ *
+ * <p>Orders are appended with {@link #startOrder(long)} followed by the items of that
+ * order. Bread ages are only bounded when the batch is priced, against
+ * {@code pricing.bread.max-age-days}, so an over-age item fails the whole batch.</p>
+ */
+public final class OrderBatch {
+
+    private static final ProductType[] TYPES = ProductType.values();
+    private static final BeerOrigin[] ORIGINS = BeerOrigin.values();
+
+    private long[] orderIds;
+    private int[] offsets;
+    private int orderCount;
+
+    private byte[] types;
+    private int[] quantities;
+    private int[] ages;
+    private byte[] origins;
+    private int[] weights;
+    private int itemCount;
+
+    public OrderBatch() {
+        this(16, 64);
+    }
+
+    /**
+     * @param expectedOrders Number of orders to reserve space for
+     * @param expectedItems  Number of items, across all orders, to reserve space for
+     */
+    public OrderBatch(int expectedOrders, int expectedItems) {
+        int orders = Math.max(expectedOrders, 1);
+        int items = Math.max(expectedItems, 1);
+        this.orderIds = new long[orders];
+        this.offsets = new int[orders + 1];
+        this.types = new byte[items];
+        this.quantities = new int[items];
+        this.ages = new int[items];
+        this.origins = new byte[items];
+        this.weights = new int[items];
+    }
+
+    /**
+     * Begin a new order; items added afterwards belong to it.
+     *
+     * @param orderId Caller-assigned id reported back with the order's totals
+     * @return This batch
+     */
+    public OrderBatch startOrder(long orderId) {
+        if (orderCount == orderIds.length) {
+            orderIds = Arrays.copyOf(orderIds, orderCount * 2);
+            offsets = Arrays.copyOf(offsets, orderCount * 2 + 1);
+        }
+        orderIds[orderCount] = orderId;
+        orderCount++;
+        offsets[orderCount] = itemCount;
+        return this;
+    }
+
+    public OrderBatch addBread(int quantity, int daysOld) {
+        ItemRules.requireQuantity(quantity);
+        ItemRules.requireAge(daysOld);
+        int item = append(ProductType.BREAD);
+        quantities[item] = quantity;
+        ages[item] = daysOld;
+        return this;
+    }
+
+    public OrderBatch addVegetable(int weightGrams) {
+        ItemRules.requireWeight(weightGrams);
+        int item = append(ProductType.VEGETABLE);
+        weights[item] = weightGrams;
+        return this;
+    }
+
+    public OrderBatch addBeer(int quantity, BeerOrigin origin) {
+        ItemRules.requireQuantity(quantity);
+        ItemRules.requireOrigin(origin);
+        int item = append(ProductType.BEER);
+        quantities[item] = quantity;
+        origins[item] = (byte) origin.ordinal();
+        return this;
+    }
+
+    public int orderCount() {
+        return orderCount;
+    }
+
+    public int itemCount() {
+        return itemCount;
+    }
+
+    public long orderId(int order) {
+        checkOrder(order);
+        return orderIds[order];
+    }
+
+    /**
+     * Index of the first item of an order.
+     */
+    public int itemsStart(int order) {
+        checkOrder(order);
+        return offsets[order];
+    }
+
+    /**
+     * Index just past the last item of an order.
+     */
+    public int itemsEnd(int order) {
+        checkOrder(order);
+        return offsets[order + 1];
+    }
+
+    public ProductType type(int item) {
+        return TYPES[types[item]];
+    }
+
+    /**
+     * Quantity of a bread or beer item; 0 for vegetables.
+     */
+    public int quantity(int item) {
+        return quantities[item];
+    }
+
+    /**
+     * Age in days of a bread item; 0 for other types.
+     */
+    public int age(int item) {
+        return ages[item];
+    }
+
+    /**
+     * Origin of a beer item.
+     */
+    public BeerOrigin origin(int item) {
+        return ORIGINS[origins[item]];
+    }
+
+    /**
+     * Weight in grams of a vegetable item; 0 for other types.
+     */
+    public int weight(int item) {
+        return weights[item];
+    }
+
+    /**
+     * Copy of the order id column.
+     */
+    public long[] orderIds() {
+        return Arrays.copyOf(orderIds, orderCount);
+    }
+
+    private int append(ProductType type) {
+        if (orderCount == 0) {
+            throw new IllegalStateException("startOrder must be called before adding items");
+        }
+        if (itemCount == types.length) {
+            int capacity = itemCount * 2;
+            types = Arrays.copyOf(types, capacity);
+            quantities = Arrays.copyOf(quantities, capacity);
+            ages = Arrays.copyOf(ages, capacity);
+            origins = Arrays.copyOf(origins, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+        }
+        int item = itemCount++;
+        types[item] = (byte) type.ordinal();
+        offsets[orderCount] = itemCount;
+        return item;
+    }
+
+    private void checkOrder(int order) {
+        if (order < 0 || order >= orderCount) {
+            throw new IndexOutOfBoundsException("Order " + order + " out of bounds for " + orderCount + " orders");
+        }
+    }
+}
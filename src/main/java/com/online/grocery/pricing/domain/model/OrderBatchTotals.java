@@ -0,0 +1,61 @@
+package com.online.grocery.pricing.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Receipt totals for every order of an {@link OrderBatch}, stored column by column.
+ *
+ * <p>Position {@code n} holds the totals of the batch's order {@code n}. Amounts are
+ * kept in cents; the {@link BigDecimal} accessors return them at currency scale.</p>
+ */
+public final class OrderBatchTotals {
+
+    private final long[] orderIds;
+    private final long[] subtotalCents;
+    private final long[] discountCents;
+    private final long[] totalCents;
+
+    public OrderBatchTotals(long[] orderIds, long[] subtotalCents, long[] discountCents, long[] totalCents) {
+        if (subtotalCents.length != orderIds.length
+                || discountCents.length != orderIds.length
+                || totalCents.length != orderIds.length) {
+            throw new IllegalArgumentException("Total columns must have one entry per order");
+        }
+        this.orderIds = orderIds;
+        this.subtotalCents = subtotalCents;
+        this.discountCents = discountCents;
+        this.totalCents = totalCents;
+    }
+
+    public int size() {
+        return orderIds.length;
+    }
+
+    public long orderId(int order) {
+        return orderIds[order];
+    }
+
+    public long subtotalCents(int order) {
+        return subtotalCents[order];
+    }
+
+    public long discountCents(int order) {
+        return discountCents[order];
+    }
+
+    public long totalCents(int order) {
+        return totalCents[order];
+    }
+
+    public BigDecimal subtotal(int order) {
+        return BigDecimal.valueOf(subtotalCents[order], 2);
+    }
+
+    public BigDecimal totalDiscount(int order) {
+        return BigDecimal.valueOf(discountCents[order], 2);
+    }
+
+    public BigDecimal total(int order) {
+        return BigDecimal.valueOf(totalCents[order], 2);
+    }
+}
@@ -4,7 +4,8 @@ import com.online.grocery.pricing.domain.enums.ProductType;
 
 /**
  * Base interface for all order items.
+ * Sealed, so a switch over the item kinds is checked for exhaustiveness.
  */
-public interface OrderItem {
+public sealed interface OrderItem permits BreadItem, VegetableItem, BeerItem {
     ProductType getType();
 }
@@ -12,9 +12,7 @@ public record VegetableItem(
 ) implements OrderItem {
 
     public VegetableItem {
-        if (weightGrams <= 0) {
-            throw new IllegalArgumentException("Weight must be positive");
-        }
+        ItemRules.requireWeight(weightGrams);
     }
 
     @Override
@@ -3,13 +3,17 @@ package com.online.grocery.pricing.exception;
 import com.online.grocery.pricing.api.dto.ErrorResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Global exception handler for REST API.
@@ -18,6 +22,30 @@ import java.util.stream.Collectors;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    /** The 500 response never varies, so it is built once and shared. */
+    private static final ResponseEntity<ErrorResponse> INTERNAL_ERROR = ResponseEntity
+            .status(HttpStatus.INTERNAL_SERVER_ERROR)
+            .body(new ErrorResponse("INTERNAL_ERROR", "An unexpected error occurred", null));
+
+    /** Field rejections that do not depend on the request, built once and shared. */
+    private static final Map<Map<String, String>, ResponseEntity<ErrorResponse>> COMMON_VALIDATION_ERRORS =
+            Stream.of(
+                    OrderValidationException.emptyOrder(),
+                    OrderValidationException.malformedBody()
+            ).collect(Collectors.toUnmodifiableMap(
+                    OrderValidationException::getErrors,
+                    ex -> validationError(ex.getErrors())
+            ));
+
+    /** Bound on distinct business rule messages whose responses are kept for reuse. */
+    private static final int MAX_SHARED_RULE_ERRORS = 64;
+
+    /**
+     * Business rule rejections without details, keyed by message. Their messages come
+     * from a small fixed set, so each response is built on first use and then shared.
+     */
+    private final ConcurrentMap<String, ResponseEntity<ErrorResponse>> ruleErrors = new ConcurrentHashMap<>();
+
     /**
      * Handle Bean Validation errors (@Valid annotation failures).
      * Returns HTTP 400 Bad Request.
@@ -43,6 +71,30 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(response);
     }
 
+    /**
+     * Handle field validation errors raised outside of @Valid processing.
+     * Returns HTTP 400 Bad Request.
+     */
+    @ExceptionHandler(OrderValidationException.class)
+    public ResponseEntity<ErrorResponse> handleOrderValidation(
+            OrderValidationException ex
+    ) {
+        ResponseEntity<ErrorResponse> common = COMMON_VALIDATION_ERRORS.get(ex.getErrors());
+        return common != null ? common : validationError(ex.getErrors());
+    }
+
+    /**
+     * Handle request bodies that cannot be parsed, whatever the endpoint.
+     * Returns HTTP 400 Bad Request with a generic "body" violation, the same payload the
+     * functional route and the streaming reader report for malformed JSON.
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleUnreadableBody(
+            HttpMessageNotReadableException ex
+    ) {
+        return handleOrderValidation(OrderValidationException.malformedBody());
+    }
+
     /**
      * Handle business rule violations.
      * Returns HTTP 422 Unprocessable Entity.
@@ -50,9 +102,96 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(InvalidOrderException.class)
     public ResponseEntity<ErrorResponse> handleInvalidOrder(
             InvalidOrderException ex
+    ) {
+        String message = ex.getMessage();
+        if (ex.getDetails() != null || message == null) {
+            return invalidOrder(message, ex.getDetails());
+        }
+        ResponseEntity<ErrorResponse> shared = ruleErrors.get(message);
+        if (shared != null) {
+            return shared;
+        }
+        ResponseEntity<ErrorResponse> response = invalidOrder(message, null);
+        if (ruleErrors.size() < MAX_SHARED_RULE_ERRORS) {
+            ruleErrors.putIfAbsent(message, response);
+        }
+        return response;
+    }
+
+    /**
+     * Handle unknown or expired pricing jobs.
+     * Returns HTTP 404 Not Found.
+     */
+    @ExceptionHandler(PricingJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleJobNotFound(
+            PricingJobNotFoundException ex
     ) {
         ErrorResponse response = new ErrorResponse(
-                "INVALID_ORDER",
+                "JOB_NOT_FOUND",
+                ex.getMessage(),
+                null
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+
+    /**
+     * Handle pricing jobs rejected because the job queue is full.
+     * Returns HTTP 503 Service Unavailable.
+     */
+    @ExceptionHandler(PricingJobRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleJobRejected(
+            PricingJobRejectedException ex
+    ) {
+        ErrorResponse response = new ErrorResponse(
+                "JOB_QUEUE_FULL",
+                ex.getMessage(),
+                null
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
+    /**
+     * Handle an Idempotency-Key replayed with a different request body.
+     * Returns HTTP 422 Unprocessable Entity.
+     */
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyReused(
+            IdempotencyKeyReusedException ex
+    ) {
+        ErrorResponse response = new ErrorResponse(
+                "IDEMPOTENCY_KEY_REUSED",
+                ex.getMessage(),
+                null
+        );
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(response);
+    }
+
+    /**
+     * Handle a retry that timed out waiting for the first request with its Idempotency-Key.
+     * Returns HTTP 409 Conflict.
+     */
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyInProgress(
+            IdempotencyKeyInProgressException ex
+    ) {
+        ErrorResponse response = new ErrorResponse(
+                "IDEMPOTENCY_KEY_IN_PROGRESS",
+                ex.getMessage(),
+                null
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    /**
+     * Handle quote tokens that cannot confirm the order's price.
+     * Returns HTTP 422 Unprocessable Entity.
+     */
+    @ExceptionHandler(InvalidQuoteException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidQuote(
+            InvalidQuoteException ex
+    ) {
+        ErrorResponse response = new ErrorResponse(
+                "INVALID_QUOTE",
                 ex.getMessage(),
                 null
         );
@@ -81,11 +220,40 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneralError(Exception ex) {
+        return INTERNAL_ERROR;
+    }
+
+    private static ResponseEntity<ErrorResponse> validationError(Map<String, String> errors) {
         ErrorResponse response = new ErrorResponse(
-                "INTERNAL_ERROR",
-                "An unexpected error occurred",
-                null
+                "VALIDATION_ERROR",
+                "Invalid request data",
+                errors
         );
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        return ResponseEntity.badRequest().body(response);
+    }
+
+    private static ResponseEntity<ErrorResponse> invalidOrder(String message, Map<String, String> details) {
+        ErrorResponse response = new ErrorResponse(
+                "INVALID_ORDER",
+                message,
+                details
+        );
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(response);
+    }
+
+    /**
+     * Resolve an exception to the response its handler method would produce.
+     * Used where failures are reported per order instead of per request.
+     *
+     * @param ex The exception to resolve
+     * @return Error response with the matching status code
+     */
+    public ResponseEntity<ErrorResponse> resolve(Exception ex) {
+        return switch (ex) {
+            case OrderValidationException e -> handleOrderValidation(e);
+            case InvalidOrderException e -> handleInvalidOrder(e);
+            case IllegalArgumentException e -> handleIllegalArgument(e);
+            default -> handleGeneralError(ex);
+        };
     }
 }
@@ -0,0 +1,13 @@
+package com.online.grocery.pricing.exception;
+
+/**
+ * Exception thrown when a retry gives up waiting for the first request with its
+ * Idempotency-Key to finish.
+ * Results in HTTP 409 Conflict response.
+ */
+public class IdempotencyKeyInProgressException extends RuntimeException {
+
+    public IdempotencyKeyInProgressException(String key) {
+        super("A request with this Idempotency-Key is still being processed: " + key);
+    }
+}
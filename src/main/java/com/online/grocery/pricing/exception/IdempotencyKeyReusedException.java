@@ -0,0 +1,12 @@
+package com.online.grocery.pricing.exception;
+
+/**
+ * Exception thrown when an Idempotency-Key is reused with a different request body.
+ * Results in HTTP 422 Unprocessable Entity response.
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(String key) {
+        super("Idempotency-Key was already used with a different request: " + key);
+    }
+}
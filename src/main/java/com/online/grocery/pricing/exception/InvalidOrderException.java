@@ -1,16 +1,41 @@
 package com.online.grocery.pricing.exception;
 
+import java.util.Map;
+
 /**
  * Exception thrown when an order violates business rules.
  * Results in HTTP 422 Unprocessable Entity response.
+ *
+ * <p>Created without a stack trace, like OrderValidationException; a cause, when
+ * given, keeps its own.</p>
  */
 public class InvalidOrderException extends RuntimeException {
 
+    private final Map<String, String> details;
+
     public InvalidOrderException(String message) {
-        super(message);
+        super(message, null, false, false);
+        this.details = null;
     }
 
     public InvalidOrderException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
+        this.details = null;
+    }
+
+    /**
+     * @param message First violation, used as the error message
+     * @param details Every violation, keyed by field path
+     */
+    public InvalidOrderException(String message, Map<String, String> details) {
+        super(message, null, false, false);
+        this.details = Map.copyOf(details);
+    }
+
+    /**
+     * Violations keyed by field path, or null when only the message applies.
+     */
+    public Map<String, String> getDetails() {
+        return details;
     }
 }
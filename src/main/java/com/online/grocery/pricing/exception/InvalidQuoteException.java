@@ -0,0 +1,12 @@
+package com.online.grocery.pricing.exception;
+
+/**
+ * Exception thrown when a quote token is malformed, forged, expired or issued for a different order.
+ * Results in HTTP 422 Unprocessable Entity response.
+ */
+public class InvalidQuoteException extends RuntimeException {
+
+    public InvalidQuoteException(String message) {
+        super(message);
+    }
+}
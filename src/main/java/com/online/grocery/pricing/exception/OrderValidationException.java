@@ -0,0 +1,41 @@
+package com.online.grocery.pricing.exception;
+
+import java.util.Map;
+
+/**
+ * Exception thrown when request data fails field validation outside of @Valid processing.
+ * Results in HTTP 400 Bad Request response.
+ *
+ * <p>Created without a stack trace: it reports bad input rather than a fault, and
+ * rejecting a flood of invalid requests should not pay for a stack walk each time.</p>
+ */
+public class OrderValidationException extends RuntimeException {
+
+    private static final Map<String, String> EMPTY_ORDER = Map.of("items", "At least one item required");
+    private static final Map<String, String> MALFORMED_BODY = Map.of("body", "Malformed JSON body");
+
+    private final Map<String, String> errors;
+
+    public OrderValidationException(Map<String, String> errors) {
+        super("Invalid request data", null, false, false);
+        this.errors = Map.copyOf(errors);
+    }
+
+    /**
+     * An order without items.
+     */
+    public static OrderValidationException emptyOrder() {
+        return new OrderValidationException(EMPTY_ORDER);
+    }
+
+    /**
+     * A request body that cannot be parsed into the expected JSON payload.
+     */
+    public static OrderValidationException malformedBody() {
+        return new OrderValidationException(MALFORMED_BODY);
+    }
+
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,12 @@
+package com.online.grocery.pricing.exception;
+
+/**
+ * Exception thrown when a pricing job id is unknown or its result has expired.
+ * Results in HTTP 404 Not Found response.
+ */
+public class PricingJobNotFoundException extends RuntimeException {
+
+    public PricingJobNotFoundException(String jobId) {
+        super("Pricing job not found: " + jobId);
+    }
+}
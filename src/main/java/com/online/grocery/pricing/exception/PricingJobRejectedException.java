@@ -0,0 +1,16 @@
+package com.online.grocery.pricing.exception;
+
+/**
+ * Exception thrown when the pricing job queue is full.
+ * Results in HTTP 503 Service Unavailable response.
+ */
+public class PricingJobRejectedException extends RuntimeException {
+
+    public PricingJobRejectedException(String message) {
+        super(message);
+    }
+
+    public PricingJobRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
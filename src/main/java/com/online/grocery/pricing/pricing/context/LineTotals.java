@@ -0,0 +1,49 @@
+package com.online.grocery.pricing.pricing.context;
+
+import com.online.grocery.pricing.domain.model.MoneyUtils;
+
+import java.math.BigDecimal;
+
+/**
+ * Running subtotal and discount of priced lines, in cents.
+ *
+ * <p>Lets a strategy report what its receipt lines add up to without building them.
+ * Each amount is normalized exactly as a ReceiptLine would hold it before it is added,
+ * so the sums match the receipt's subtotal and discount.</p>
+ */
+public final class LineTotals {
+
+    private long subtotalCents;
+    private long discountCents;
+
+    /**
+     * Add one priced line.
+     *
+     * @param originalPrice Line price before discounts
+     * @param discount Total discount on the line
+     */
+    public void add(BigDecimal originalPrice, BigDecimal discount) {
+        subtotalCents += cents(originalPrice);
+        discountCents += cents(discount);
+    }
+
+    /**
+     * Clear the sums so the instance can be reused for the next order.
+     */
+    public void reset() {
+        subtotalCents = 0;
+        discountCents = 0;
+    }
+
+    public long subtotalCents() {
+        return subtotalCents;
+    }
+
+    public long discountCents() {
+        return discountCents;
+    }
+
+    private static long cents(BigDecimal amount) {
+        return MoneyUtils.normalize(amount).unscaledValue().longValueExact();
+    }
+}
@@ -0,0 +1,179 @@
+package com.online.grocery.pricing.pricing.context;
+
+import com.online.grocery.pricing.domain.enums.BeerOrigin;
+import com.online.grocery.pricing.domain.enums.ProductType;
+import com.online.grocery.pricing.domain.model.BeerItem;
+import com.online.grocery.pricing.domain.model.BreadItem;
+import com.online.grocery.pricing.domain.model.CompactOrder;
+import com.online.grocery.pricing.domain.model.OrderBatch;
+import com.online.grocery.pricing.domain.model.OrderItem;
+import com.online.grocery.pricing.domain.model.VegetableItem;
+import com.online.grocery.pricing.exception.InvalidOrderException;
+import com.online.grocery.pricing.exception.OrderValidationException;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Running per-type totals for an order.
+ *
+ * <p>Pricing strategies only need aggregates: bread quantity per age, total vegetable
+ * weight, and beer bottles per origin. Folding items into this accumulator as they are
+ * read lets an order of any size be priced in constant memory, without materializing
+ * its item list. Items must already be validated before they are added, except for the
+ * bread age limit, which is enforced here so that no pricing path can skip it. It is
+ * reported as the same 400 field violation OrderMapper raises for request items.</p>
+ */
+public final class OrderAccumulator {
+
+    private static final int INITIAL_BREAD_AGES = 7;
+
+    private final int maxBreadAgeDays;
+    private int[] breadQuantityByAge;
+    private final int[] beerBottlesByOrigin = new int[BeerOrigin.values().length];
+    private int vegetableWeightGrams;
+    private int maxBreadAge = -1;
+
+    /**
+     * @param maxBreadAgeDays Oldest bread age accepted, normally {@code pricing.bread.max-age-days}
+     */
+    public OrderAccumulator(int maxBreadAgeDays) {
+        this.maxBreadAgeDays = maxBreadAgeDays;
+        this.breadQuantityByAge = new int[Math.min(INITIAL_BREAD_AGES, maxBreadAgeDays + 1)];
+    }
+
+    /**
+     * Fold a domain order item into the totals.
+     *
+     * @param item The order item to add
+     */
+    public void add(OrderItem item) {
+        switch (item) {
+            case BreadItem bread -> addBread(bread.quantity(), bread.daysOld());
+            case VegetableItem vegetable -> addVegetable(vegetable.weightGrams());
+            case BeerItem beer -> addBeer(beer.quantity(), beer.origin());
+        }
+    }
+
+    /**
+     * Fold every item of a compact order into the totals.
+     *
+     * @param order The packed items to add
+     */
+    public void addAll(CompactOrder order) {
+        for (int i = 0, n = order.size(); i < n; i++) {
+            long item = order.packed(i);
+            int amount = CompactOrder.amount(item);
+            switch (CompactOrder.type(item)) {
+                case BREAD -> addBread(amount, CompactOrder.attribute(item));
+                case VEGETABLE -> addVegetable(amount);
+                case BEER -> addBeer(amount, CompactOrder.origin(item));
+            }
+        }
+    }
+
+    /**
+     * Fold the items of one order of a batch into the totals.
+     *
+     * @param batch The batch holding the order
+     * @param order Position of the order in the batch
+     */
+    public void addAll(OrderBatch batch, int order) {
+        for (int i = batch.itemsStart(order), end = batch.itemsEnd(order); i < end; i++) {
+            switch (batch.type(i)) {
+                case BREAD -> addBread(batch.quantity(i), batch.age(i));
+                case VEGETABLE -> addVegetable(batch.weight(i));
+                case BEER -> addBeer(batch.quantity(i), batch.origin(i));
+            }
+        }
+    }
+
+    /**
+     * Clear the totals so the accumulator can be reused for another order.
+     */
+    public void reset() {
+        Arrays.fill(breadQuantityByAge, 0);
+        Arrays.fill(beerBottlesByOrigin, 0);
+        vegetableWeightGrams = 0;
+        maxBreadAge = -1;
+    }
+
+    /**
+     * @throws OrderValidationException if the bread is older than the configured limit
+     */
+    public void addBread(int quantity, int daysOld) {
+        if (daysOld > maxBreadAgeDays) {
+            throw new OrderValidationException(Map.of(
+                    "daysOld", "Bread older than " + maxBreadAgeDays + " days not allowed"
+            ));
+        }
+        if (daysOld >= breadQuantityByAge.length) {
+            breadQuantityByAge = Arrays.copyOf(breadQuantityByAge, daysOld + 1);
+        }
+        breadQuantityByAge[daysOld] = sum(breadQuantityByAge[daysOld], quantity);
+        maxBreadAge = Math.max(maxBreadAge, daysOld);
+    }
+
+    public void addVegetable(int weightGrams) {
+        vegetableWeightGrams = sum(vegetableWeightGrams, weightGrams);
+    }
+
+    public void addBeer(int quantity, BeerOrigin origin) {
+        int slot = origin.ordinal();
+        beerBottlesByOrigin[slot] = sum(beerBottlesByOrigin[slot], quantity);
+    }
+
+    /**
+     * Whether any item of the given type has been added.
+     *
+     * @param type Product type to check
+     * @return true if the totals hold at least one item of that type
+     */
+    public boolean contains(ProductType type) {
+        return switch (type) {
+            case BREAD -> maxBreadAge >= 0;
+            case VEGETABLE -> vegetableWeightGrams > 0;
+            case BEER -> Arrays.stream(beerBottlesByOrigin).anyMatch(bottles -> bottles > 0);
+        };
+    }
+
+    /**
+     * Highest bread age with a non-zero quantity, or -1 if the order has no bread.
+     */
+    public int maxBreadAge() {
+        return maxBreadAge;
+    }
+
+    public int breadQuantity(int daysOld) {
+        return daysOld < breadQuantityByAge.length ? breadQuantityByAge[daysOld] : 0;
+    }
+
+    public int vegetableWeightGrams() {
+        return vegetableWeightGrams;
+    }
+
+    public int beerBottles(BeerOrigin origin) {
+        return beerBottlesByOrigin[origin.ordinal()];
+    }
+
+    /**
+     * Snapshot of the current totals as a canonical key.
+     *
+     * @return Key equal to that of any order with the same totals
+     */
+    public OrderTotalsKey toKey() {
+        return new OrderTotalsKey(
+                Arrays.copyOf(breadQuantityByAge, maxBreadAge + 1),
+                vegetableWeightGrams,
+                beerBottlesByOrigin.clone()
+        );
+    }
+
+    private static int sum(int current, int amount) {
+        try {
+            return Math.addExact(current, amount);
+        } catch (ArithmeticException ex) {
+            throw new InvalidOrderException("Order totals exceed the supported range", ex);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.online.grocery.pricing.pricing.context;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Canonical identity of an order's totals.
+ *
+ * <p>Two orders with equal keys aggregate to the same totals and so price to the same
+ * receipt, regardless of how their items were split or ordered.</p>
+ */
+public final class OrderTotalsKey {
+
+    private final int[] breadQuantityByAge;
+    private final int vegetableWeightGrams;
+    private final int[] beerBottlesByOrigin;
+    private final int hash;
+
+    OrderTotalsKey(int[] breadQuantityByAge, int vegetableWeightGrams, int[] beerBottlesByOrigin) {
+        this.breadQuantityByAge = breadQuantityByAge;
+        this.vegetableWeightGrams = vegetableWeightGrams;
+        this.beerBottlesByOrigin = beerBottlesByOrigin;
+        this.hash = 31 * (31 * Arrays.hashCode(breadQuantityByAge) + vegetableWeightGrams)
+                + Arrays.hashCode(beerBottlesByOrigin);
+    }
+
+    /**
+     * Canonical binary form of the totals, stable across processes and restarts.
+     *
+     * @return Big-endian length-prefixed bread quantities, vegetable grams and beer bottles
+     */
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(
+                Integer.BYTES * (3 + breadQuantityByAge.length + beerBottlesByOrigin.length)
+        );
+        buffer.putInt(breadQuantityByAge.length);
+        for (int quantity : breadQuantityByAge) {
+            buffer.putInt(quantity);
+        }
+        buffer.putInt(vegetableWeightGrams);
+        buffer.putInt(beerBottlesByOrigin.length);
+        for (int bottles : beerBottlesByOrigin) {
+            buffer.putInt(bottles);
+        }
+        return buffer.array();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof OrderTotalsKey key
+                && hash == key.hash
+                && vegetableWeightGrams == key.vegetableWeightGrams
+                && Arrays.equals(breadQuantityByAge, key.breadQuantityByAge)
+                && Arrays.equals(beerBottlesByOrigin, key.beerBottlesByOrigin);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderTotalsKey[bread=" + Arrays.toString(breadQuantityByAge)
+                + ", vegetableGrams=" + vegetableWeightGrams
+                + ", beer=" + Arrays.toString(beerBottlesByOrigin) + "]";
+    }
+}
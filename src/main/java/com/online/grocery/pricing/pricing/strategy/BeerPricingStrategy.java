@@ -3,19 +3,18 @@ package com.online.grocery.pricing.pricing.strategy;
 import com.online.grocery.pricing.config.PricingConfiguration;
 import com.online.grocery.pricing.domain.enums.BeerOrigin;
 import com.online.grocery.pricing.domain.enums.ProductType;
-import com.online.grocery.pricing.domain.model.BeerItem;
 import com.online.grocery.pricing.domain.model.MoneyUtils;
-import com.online.grocery.pricing.domain.model.OrderItem;
 import com.online.grocery.pricing.domain.model.ReceiptLine;
 import com.online.grocery.pricing.pricing.context.BeerPricingContext;
+import com.online.grocery.pricing.pricing.context.LineTotals;
+import com.online.grocery.pricing.pricing.context.OrderAccumulator;
 import com.online.grocery.pricing.pricing.discount.BeerDiscountRule;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Component
 public final class BeerPricingStrategy implements PricingStrategy {
@@ -39,23 +38,46 @@ public final class BeerPricingStrategy implements PricingStrategy {
     }
 
     @Override
-    public List<ReceiptLine> calculatePrice(List<OrderItem> items) {
-        List<BeerItem> beers = castToType(items, BeerItem.class);
-
-        Map<BeerOrigin, List<BeerItem>> byOrigin = beers.stream()
-                .collect(Collectors.groupingBy(BeerItem::origin));
+    public List<ReceiptLine> calculatePrice(OrderAccumulator totals) {
+        List<ReceiptLine> lines = new ArrayList<>();
+        for (BeerOrigin origin : BeerOrigin.values()) {
+            int totalBottles = totals.beerBottles(origin);
+            if (totalBottles > 0) {
+                lines.add(priceOriginGroup(origin, totalBottles));
+            }
+        }
+        return lines;
+    }
 
-        return byOrigin.entrySet().stream()
-                .map(this::priceOriginGroup)
-                .toList();
+    @Override
+    public void addTotals(OrderAccumulator totals, LineTotals sums) {
+        for (BeerOrigin origin : BeerOrigin.values()) {
+            int totalBottles = totals.beerBottles(origin);
+            if (totalBottles > 0) {
+                BeerPricingContext ctx = context(origin, totalBottles);
+                sums.add(ctx.originalPrice(), discount(ctx));
+            }
+        }
     }
 
-    private ReceiptLine priceOriginGroup(Map.Entry<BeerOrigin, List<BeerItem>> entry) {
-        BeerOrigin origin = entry.getKey();
-        int totalBottles = entry.getValue().stream()
-                .mapToInt(BeerItem::quantity)
-                .sum();
+    private ReceiptLine priceOriginGroup(BeerOrigin origin, int totalBottles) {
+        BeerPricingContext ctx = context(origin, totalBottles);
+        BigDecimal totalDiscount = discount(ctx);
+        BigDecimal finalPrice = ctx.originalPrice().subtract(totalDiscount);
+
+        String description = String.format(
+                "%d x %s Beer (%d packs + %d singles)",
+                totalBottles, origin, ctx.packs(), ctx.singles()
+        );
+        return new ReceiptLine(
+                description,
+                MoneyUtils.normalize(ctx.originalPrice()),
+                MoneyUtils.normalize(totalDiscount),
+                MoneyUtils.normalize(finalPrice)
+        );
+    }
 
+    private BeerPricingContext context(BeerOrigin origin, int totalBottles) {
         PricingConfiguration.BeerRules beerRules = config.getBeer();
         BigDecimal originBasePrice = switch (origin) {
             case BELGIAN -> beerRules.getBelgianBasePrice();
@@ -69,7 +91,7 @@ public final class BeerPricingStrategy implements PricingStrategy {
         int packs = totalBottles / packSize;
         int singles = totalBottles % packSize;
 
-        BeerPricingContext ctx = new BeerPricingContext(
+        return new BeerPricingContext(
                 origin,
                 totalBottles,
                 packs,
@@ -77,31 +99,15 @@ public final class BeerPricingStrategy implements PricingStrategy {
                 originBasePrice,
                 originalPrice
         );
-
-        BigDecimal totalDiscount = discountRules.stream()
-                .filter(rule -> rule.isApplicable(ctx))
-                .map(rule -> rule.calculateDiscount(ctx))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal finalPrice = originalPrice.subtract(totalDiscount);
-
-        String description = String.format(
-                "%d x %s Beer (%d packs + %d singles)",
-                totalBottles, origin, packs, singles
-        );
-        return new ReceiptLine(
-                description,
-                MoneyUtils.normalize(originalPrice),
-                MoneyUtils.normalize(totalDiscount),
-                MoneyUtils.normalize(finalPrice)
-        );
     }
 
-    @SuppressWarnings("unchecked")
-    private <T extends OrderItem> List<T> castToType(List<OrderItem> items, Class<T> type) {
-        return items.stream()
-                .filter(type::isInstance)
-                .map(type::cast)
-                .toList();
+    private BigDecimal discount(BeerPricingContext ctx) {
+        BigDecimal totalDiscount = BigDecimal.ZERO;
+        for (BeerDiscountRule rule : discountRules) {
+            if (rule.isApplicable(ctx)) {
+                totalDiscount = totalDiscount.add(rule.calculateDiscount(ctx));
+            }
+        }
+        return totalDiscount;
     }
 }
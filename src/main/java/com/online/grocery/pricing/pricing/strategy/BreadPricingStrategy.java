@@ -2,19 +2,18 @@ package com.online.grocery.pricing.pricing.strategy;
 
 import com.online.grocery.pricing.config.PricingConfiguration;
 import com.online.grocery.pricing.domain.enums.ProductType;
-import com.online.grocery.pricing.domain.model.BreadItem;
 import com.online.grocery.pricing.domain.model.MoneyUtils;
-import com.online.grocery.pricing.domain.model.OrderItem;
 import com.online.grocery.pricing.domain.model.ReceiptLine;
 import com.online.grocery.pricing.pricing.context.BreadPricingContext;
+import com.online.grocery.pricing.pricing.context.LineTotals;
+import com.online.grocery.pricing.pricing.context.OrderAccumulator;
 import com.online.grocery.pricing.pricing.discount.BreadDiscountRule;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Component
 public final class BreadPricingStrategy implements PricingStrategy {
@@ -38,53 +37,61 @@ public final class BreadPricingStrategy implements PricingStrategy {
     }
 
     @Override
-    public List<ReceiptLine> calculatePrice(List<OrderItem> items) {
-        List<BreadItem> breads = castToType(items, BreadItem.class);
-
-        Map<Integer, List<BreadItem>> byAge = breads.stream()
-                .collect(Collectors.groupingBy(BreadItem::daysOld));
+    public List<ReceiptLine> calculatePrice(OrderAccumulator totals) {
+        List<ReceiptLine> lines = new ArrayList<>();
+        for (int age = 0; age <= totals.maxBreadAge(); age++) {
+            int totalQty = totals.breadQuantity(age);
+            if (totalQty > 0) {
+                lines.add(priceAgeGroup(age, totalQty));
+            }
+        }
+        return lines;
+    }
 
-        return byAge.entrySet().stream()
-                .map(this::priceAgeGroup)
-                .toList();
+    @Override
+    public void addTotals(OrderAccumulator totals, LineTotals sums) {
+        for (int age = 0; age <= totals.maxBreadAge(); age++) {
+            int totalQty = totals.breadQuantity(age);
+            if (totalQty > 0) {
+                BreadPricingContext ctx = context(age, totalQty);
+                sums.add(ctx.originalPrice(), discount(ctx));
+            }
+        }
     }
 
-    private ReceiptLine priceAgeGroup(Map.Entry<Integer, List<BreadItem>> entry) {
-        int age = entry.getKey();
-        List<BreadItem> items = entry.getValue();
-        int totalQty = items.stream().mapToInt(BreadItem::quantity).sum();
+    private ReceiptLine priceAgeGroup(int age, int totalQty) {
+        BreadPricingContext ctx = context(age, totalQty);
+        BigDecimal totalDiscount = discount(ctx);
+        BigDecimal finalPrice = ctx.originalPrice().subtract(totalDiscount);
+
+        String description = String.format("%d x Bread (%d days old)", totalQty, age);
+        return new ReceiptLine(
+                description,
+                MoneyUtils.normalize(ctx.originalPrice()),
+                MoneyUtils.normalize(totalDiscount),
+                MoneyUtils.normalize(finalPrice)
+        );
+    }
 
+    private BreadPricingContext context(int age, int totalQty) {
         BigDecimal unitPrice = config.getBreadPrice();
         BigDecimal originalPrice = unitPrice.multiply(BigDecimal.valueOf(totalQty));
 
-        BreadPricingContext ctx = new BreadPricingContext(
+        return new BreadPricingContext(
                 age,
                 totalQty,
                 unitPrice,
                 originalPrice
         );
-
-        BigDecimal totalDiscount = discountRules.stream()
-                .filter(rule -> rule.isApplicable(ctx))
-                .map(rule -> rule.calculateDiscount(ctx))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal finalPrice = originalPrice.subtract(totalDiscount);
-
-        String description = String.format("%d x Bread (%d days old)", totalQty, age);
-        return new ReceiptLine(
-                description,
-                MoneyUtils.normalize(originalPrice),
-                MoneyUtils.normalize(totalDiscount),
-                MoneyUtils.normalize(finalPrice)
-        );
     }
 
-    @SuppressWarnings("unchecked")
-    private <T extends OrderItem> List<T> castToType(List<OrderItem> items, Class<T> type) {
-        return items.stream()
-                .filter(type::isInstance)
-                .map(type::cast)
-                .toList();
+    private BigDecimal discount(BreadPricingContext ctx) {
+        BigDecimal totalDiscount = BigDecimal.ZERO;
+        for (BreadDiscountRule rule : discountRules) {
+            if (rule.isApplicable(ctx)) {
+                totalDiscount = totalDiscount.add(rule.calculateDiscount(ctx));
+            }
+        }
+        return totalDiscount;
     }
 }
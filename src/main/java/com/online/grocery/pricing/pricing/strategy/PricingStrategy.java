@@ -1,8 +1,9 @@
 package com.online.grocery.pricing.pricing.strategy;
 
 import com.online.grocery.pricing.domain.enums.ProductType;
-import com.online.grocery.pricing.domain.model.OrderItem;
 import com.online.grocery.pricing.domain.model.ReceiptLine;
+import com.online.grocery.pricing.pricing.context.LineTotals;
+import com.online.grocery.pricing.pricing.context.OrderAccumulator;
 
 import java.util.List;
 
@@ -24,11 +25,25 @@ public interface PricingStrategy {
     ProductType getProductType();
 
     /**
-     * Calculate prices for a list of order items.
-     * All items passed to this method will be of the type returned by getProductType().
+     * Calculate prices from pre-aggregated order totals.
+     * Only the totals for the type returned by getProductType() are read.
      *
-     * @param items List of order items to price (pre-filtered by type)
+     * @param totals Running totals for the whole order
      * @return List of receipt lines with pricing details
      */
-    List<ReceiptLine> calculatePrice(List<OrderItem> items);
+    List<ReceiptLine> calculatePrice(OrderAccumulator totals);
+
+    /**
+     * Add the subtotal and discount of the lines calculatePrice would return, without
+     * building them. The default sums those lines; implementations override it to skip
+     * the receipt lines and their descriptions when only totals are needed.
+     *
+     * @param totals Running totals for the whole order
+     * @param sums Cents sums to add this product type's lines to
+     */
+    default void addTotals(OrderAccumulator totals, LineTotals sums) {
+        for (ReceiptLine line : calculatePrice(totals)) {
+            sums.add(line.originalPrice(), line.discount());
+        }
+    }
 }
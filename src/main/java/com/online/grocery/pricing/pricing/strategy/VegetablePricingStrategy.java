@@ -3,9 +3,9 @@ package com.online.grocery.pricing.pricing.strategy;
 import com.online.grocery.pricing.config.PricingConfiguration;
 import com.online.grocery.pricing.domain.enums.ProductType;
 import com.online.grocery.pricing.domain.model.MoneyUtils;
-import com.online.grocery.pricing.domain.model.OrderItem;
 import com.online.grocery.pricing.domain.model.ReceiptLine;
-import com.online.grocery.pricing.domain.model.VegetableItem;
+import com.online.grocery.pricing.pricing.context.LineTotals;
+import com.online.grocery.pricing.pricing.context.OrderAccumulator;
 import com.online.grocery.pricing.pricing.context.VegetablePricingContext;
 import com.online.grocery.pricing.pricing.discount.VegetableDiscountRule;
 import org.springframework.stereotype.Component;
@@ -37,45 +37,50 @@ public final class VegetablePricingStrategy implements PricingStrategy {
     }
 
     @Override
-    public List<ReceiptLine> calculatePrice(List<OrderItem> items) {
-        List<VegetableItem> vegetables = castToType(items, VegetableItem.class);
+    public List<ReceiptLine> calculatePrice(OrderAccumulator totals) {
+        return List.of(priceTotalWeight(totals.vegetableWeightGrams()));
+    }
 
-        int totalWeight = vegetables.stream()
-                .mapToInt(VegetableItem::weightGrams)
-                .sum();
+    @Override
+    public void addTotals(OrderAccumulator totals, LineTotals sums) {
+        VegetablePricingContext ctx = context(totals.vegetableWeightGrams());
+        sums.add(ctx.originalPrice(), discount(ctx));
+    }
 
+    private ReceiptLine priceTotalWeight(int totalWeight) {
+        VegetablePricingContext ctx = context(totalWeight);
+        BigDecimal totalDiscount = discount(ctx);
+        BigDecimal finalPrice = ctx.originalPrice().subtract(totalDiscount);
+
+        String description = String.format("%dg Vegetables", totalWeight);
+        return new ReceiptLine(
+                description,
+                MoneyUtils.normalize(ctx.originalPrice()),
+                MoneyUtils.normalize(totalDiscount),
+                MoneyUtils.normalize(finalPrice)
+        );
+    }
+
+    private VegetablePricingContext context(int totalWeight) {
         BigDecimal pricePerGram = config.getVegetablePricePer100g()
                 .divide(BigDecimal.valueOf(100), 4, RoundingMode.HALF_UP);
         BigDecimal originalPrice = pricePerGram
                 .multiply(BigDecimal.valueOf(totalWeight));
 
-        VegetablePricingContext ctx = new VegetablePricingContext(
+        return new VegetablePricingContext(
                 totalWeight,
                 pricePerGram,
                 originalPrice
         );
-
-        BigDecimal totalDiscount = discountRules.stream()
-                .filter(rule -> rule.isApplicable(ctx))
-                .map(rule -> rule.calculateDiscount(ctx))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal finalPrice = originalPrice.subtract(totalDiscount);
-
-        String description = String.format("%dg Vegetables", totalWeight);
-        return List.of(new ReceiptLine(
-                description,
-                MoneyUtils.normalize(originalPrice),
-                MoneyUtils.normalize(totalDiscount),
-                MoneyUtils.normalize(finalPrice)
-        ));
     }
 
-    @SuppressWarnings("unchecked")
-    private <T extends OrderItem> List<T> castToType(List<OrderItem> items, Class<T> type) {
-        return items.stream()
-                .filter(type::isInstance)
-                .map(type::cast)
-                .toList();
+    private BigDecimal discount(VegetablePricingContext ctx) {
+        BigDecimal totalDiscount = BigDecimal.ZERO;
+        for (VegetableDiscountRule rule : discountRules) {
+            if (rule.isApplicable(ctx)) {
+                totalDiscount = totalDiscount.add(rule.calculateDiscount(ctx));
+            }
+        }
+        return totalDiscount;
     }
 }
@@ -0,0 +1,135 @@
+package com.online.grocery.pricing.service;
+
+import com.online.grocery.pricing.api.dto.BatchOrderResultResponse;
+import com.online.grocery.pricing.api.dto.ErrorResponse;
+import com.online.grocery.pricing.api.dto.OrderRequest;
+import com.online.grocery.pricing.api.mapper.OrderMapper;
+import com.online.grocery.pricing.config.PricingConfiguration;
+import com.online.grocery.pricing.domain.model.Order;
+import com.online.grocery.pricing.domain.model.Receipt;
+import com.online.grocery.pricing.exception.GlobalExceptionHandler;
+import com.online.grocery.pricing.exception.OrderValidationException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
+
+/**
+ * Prices several independent orders in one call.
+ * Orders are evaluated in parallel on a bounded executor and every order
+ * gets its own result, so one rejected order never fails the whole batch.
+ */
+@Service
+public class BatchPricingService {
+
+    private final OrderMapper orderMapper;
+    private final CoalescingPricingService pricingService;
+    private final GlobalExceptionHandler exceptionHandler;
+    private final Executor executor;
+    private final PricingConfiguration config;
+
+    public BatchPricingService(
+            OrderMapper orderMapper,
+            CoalescingPricingService pricingService,
+            GlobalExceptionHandler exceptionHandler,
+            @Qualifier("batchPricingExecutor") Executor executor,
+            PricingConfiguration config
+    ) {
+        this.orderMapper = orderMapper;
+        this.pricingService = pricingService;
+        this.exceptionHandler = exceptionHandler;
+        this.executor = executor;
+        this.config = config;
+    }
+
+    /**
+     * Price a batch of orders in parallel.
+     *
+     * @param requests Orders to price
+     * @return One result per order, in input order
+     * @throws OrderValidationException if the batch is empty or too large
+     */
+    public List<BatchOrderResultResponse> calculateBatch(List<OrderRequest> requests) {
+        validateBatchSize(requests);
+
+        List<CompletableFuture<BatchOrderResultResponse>> results = IntStream.range(0, requests.size())
+                .mapToObj(index -> CompletableFuture.supplyAsync(
+                        () -> priceOrder(index, requests.get(index)),
+                        executor
+                ))
+                .toList();
+
+        return results.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    /**
+     * Validate, map and price a single order, capturing any failure as an error result.
+     * Error codes and statuses match those produced by GlobalExceptionHandler.
+     *
+     * @param index   Position of the order in its batch
+     * @param request The order request
+     * @return Result holding either the receipt or the error
+     */
+    public BatchOrderResultResponse priceOrder(int index, OrderRequest request) {
+        try {
+            Receipt receipt = calculateReceipt(request);
+            return new BatchOrderResultResponse(
+                    index,
+                    HttpStatus.OK.value(),
+                    receipt,
+                    null
+            );
+        } catch (Exception ex) {
+            return toFailure(index, ex);
+        }
+    }
+
+    /**
+     * Validate, map and price a single order request.
+     *
+     * @param request The order request
+     * @return The priced receipt
+     * @throws OrderValidationException if the request fails field validation
+     */
+    public Receipt calculateReceipt(OrderRequest request) {
+        Order order = orderMapper.mapToOrder(request);
+        return pricingService.calculateReceipt(order);
+    }
+
+    /**
+     * Build the error result for an order that could not be priced.
+     *
+     * @param index Position of the order in its batch
+     * @param ex    The failure
+     * @return Result holding the error response GlobalExceptionHandler would produce
+     */
+    public BatchOrderResultResponse toFailure(int index, Exception ex) {
+        ResponseEntity<ErrorResponse> error = exceptionHandler.resolve(ex);
+        return new BatchOrderResultResponse(
+                index,
+                error.getStatusCode().value(),
+                null,
+                error.getBody()
+        );
+    }
+
+    private void validateBatchSize(List<OrderRequest> requests) {
+        int maxOrders = config.getBatch().getMaxOrders();
+        if (requests == null || requests.isEmpty()) {
+            throw new OrderValidationException(Map.of("orders", "At least one order required"));
+        }
+        if (requests.size() > maxOrders) {
+            throw new OrderValidationException(Map.of(
+                    "orders", "At most " + maxOrders + " orders allowed per batch"
+            ));
+        }
+    }
+}
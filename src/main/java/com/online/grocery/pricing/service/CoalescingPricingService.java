@@ -0,0 +1,117 @@
+package com.online.grocery.pricing.service;
+
+import com.online.grocery.pricing.api.dto.CoalescingStatsResponse;
+import com.online.grocery.pricing.config.PricingConfiguration;
+import com.online.grocery.pricing.domain.model.Order;
+import com.online.grocery.pricing.domain.model.Receipt;
+import com.online.grocery.pricing.pricing.context.OrderAccumulator;
+import com.online.grocery.pricing.pricing.context.OrderTotalsKey;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Single-flight layer in front of {@link OrderPricingService}.
+ *
+ * <p>With {@code pricing.coalescing.enabled}, each order is reduced to its canonical
+ * totals key. Concurrent orders with the same key wait on the one pricing run already in
+ * flight and all receive the same immutable Receipt, or the same failure. Nothing is
+ * cached: once the run finishes, the next identical order is priced again. When disabled,
+ * calls go straight to the pricing service.</p>
+ */
+@Service
+public class CoalescingPricingService {
+
+    private final ConcurrentMap<OrderTotalsKey, CompletableFuture<Receipt>> inFlight =
+            new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    private final OrderPricingService pricingService;
+    private final PricingConfiguration config;
+
+    public CoalescingPricingService(OrderPricingService pricingService, PricingConfiguration config) {
+        this.pricingService = pricingService;
+        this.config = config;
+    }
+
+    /**
+     * Price an order, sharing the run with identical concurrent orders.
+     *
+     * @param order The order containing items to price
+     * @return Receipt with line items and totals
+     */
+    public Receipt calculateReceipt(Order order) {
+        if (!config.getCoalescing().isEnabled()) {
+            return pricingService.calculateReceipt(order);
+        }
+
+        OrderAccumulator totals = new OrderAccumulator(config.getBread().getMaxAgeDays());
+        order.getItems().forEach(totals::add);
+        return coalesce(totals);
+    }
+
+    /**
+     * Price pre-aggregated totals, sharing the run with identical concurrent orders.
+     *
+     * @param totals Running totals for the order
+     * @return Receipt with line items and totals
+     */
+    public Receipt calculateReceipt(OrderAccumulator totals) {
+        if (!config.getCoalescing().isEnabled()) {
+            return pricingService.calculateReceipt(totals);
+        }
+        return coalesce(totals);
+    }
+
+    /**
+     * Counters since startup.
+     */
+    public CoalescingStatsResponse stats() {
+        long total = requests.sum();
+        long shared = coalesced.sum();
+        return new CoalescingStatsResponse(
+                config.getCoalescing().isEnabled(),
+                total,
+                shared,
+                total == 0 ? 0.0 : (double) shared / total
+        );
+    }
+
+    private Receipt coalesce(OrderAccumulator totals) {
+        requests.increment();
+        OrderTotalsKey key = totals.toKey();
+        CompletableFuture<Receipt> call = new CompletableFuture<>();
+        CompletableFuture<Receipt> leader = inFlight.putIfAbsent(key, call);
+        if (leader != null) {
+            coalesced.increment();
+            return await(leader);
+        }
+
+        try {
+            Receipt receipt = pricingService.calculateReceipt(totals);
+            call.complete(receipt);
+            return receipt;
+        } catch (RuntimeException ex) {
+            call.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private static Receipt await(CompletableFuture<Receipt> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.online.grocery.pricing.service;
+
+import com.online.grocery.pricing.config.PricingConfiguration;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Derives a version string from the active pricing rules.
+ *
+ * <p>The version is a hash of the prices and the bread, vegetable and beer rules, so it
+ * changes exactly when a priced result could change. Runtime settings such as executor
+ * sizing do not affect it. The pricing configuration is bound once at startup, so the
+ * hash is computed then and reading the version costs nothing per request.</p>
+ */
+@Service
+public class ConfigurationVersionService {
+
+    private static final int VERSION_BYTES = 8;
+
+    private final PricingConfiguration config;
+    private final JsonMapper jsonMapper;
+    private final String version;
+
+    public ConfigurationVersionService(PricingConfiguration config, JsonMapper jsonMapper) {
+        this.config = config;
+        this.jsonMapper = jsonMapper;
+        this.version = computeVersion();
+    }
+
+    /**
+     * Version of the pricing rules currently in effect.
+     *
+     * @return Hex string identifying the rule set
+     */
+    public String currentVersion() {
+        return version;
+    }
+
+    private String computeVersion() {
+        byte[] rules = jsonMapper.writeValueAsBytes(List.of(
+                config.getBreadPrice(),
+                config.getVegetablePricePer100g(),
+                config.getBread(),
+                config.getVegetable(),
+                config.getBeer()
+        ));
+        return HexFormat.of().formatHex(sha256(rules), 0, VERSION_BYTES);
+    }
+
+    private static byte[] sha256(byte[] input) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(input);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
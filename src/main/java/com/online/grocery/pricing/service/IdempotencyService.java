@@ -0,0 +1,217 @@
+package com.online.grocery.pricing.service;
+
+import com.online.grocery.pricing.api.dto.IdempotencyStatsResponse;
+import com.online.grocery.pricing.api.dto.OrderRequest;
+import com.online.grocery.pricing.config.PricingConfiguration;
+import com.online.grocery.pricing.domain.model.Receipt;
+import com.online.grocery.pricing.domain.model.ReceiptLine;
+import com.online.grocery.pricing.exception.IdempotencyKeyInProgressException;
+import com.online.grocery.pricing.exception.IdempotencyKeyReusedException;
+import com.online.grocery.pricing.exception.OrderValidationException;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Replays the first receipt priced for an Idempotency-Key.
+ *
+ * <p>Each key stores a SHA-256 fingerprint of the request and its receipt. A retry with
+ * the same body gets the stored receipt without pricing again; a retry with a different
+ * body is rejected. Concurrent requests for the same key wait for the first one, for at
+ * most {@code pricing.idempotency.max-wait}. Failures, including errors, are not stored,
+ * so a failed request can be retried under the same key.</p>
+ *
+ * <p>Entries expire after {@code pricing.idempotency.ttl}. The oldest entries are evicted
+ * once {@code max-entries} or the approximate {@code max-bytes} is exceeded.</p>
+ */
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    /** Approximate heap cost of an entry, its fingerprint and an empty receipt. */
+    private static final long ENTRY_BYTES = 256;
+
+    /** Approximate heap cost of a receipt line, excluding its description characters. */
+    private static final long LINE_BYTES = 160;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private long bytes;
+
+    private final JsonMapper jsonMapper;
+    private final PricingConfiguration config;
+
+    public IdempotencyService(JsonMapper jsonMapper, PricingConfiguration config) {
+        this.jsonMapper = jsonMapper;
+        this.config = config;
+    }
+
+    /**
+     * Price a request once per key.
+     *
+     * @param key     Idempotency-Key header value
+     * @param request The order request, fingerprinted to detect key reuse
+     * @param pricing Prices the request on the first call for the key
+     * @return The receipt priced by the first request with this key
+     * @throws OrderValidationException       if the key is blank or too long
+     * @throws IdempotencyKeyReusedException     if the key was used with a different body
+     * @throws IdempotencyKeyInProgressException if the first request for the key is still
+     *                                           pricing after {@code max-wait}
+     */
+    public Receipt execute(String key, OrderRequest request, Supplier<Receipt> pricing) {
+        validateKey(key);
+        byte[] fingerprint = fingerprint(request);
+
+        Entry stored;
+        Entry entry = null;
+        synchronized (this) {
+            evictExpired(System.nanoTime());
+            stored = entries.get(key);
+            if (stored != null) {
+                if (!Arrays.equals(stored.fingerprint, fingerprint)) {
+                    throw new IdempotencyKeyReusedException(key);
+                }
+                hits.increment();
+            } else {
+                misses.increment();
+                entry = new Entry(fingerprint, ENTRY_BYTES + 2L * key.length());
+                entries.put(key, entry);
+                bytes += entry.bytes;
+                evictOverflow();
+            }
+        }
+        if (stored != null) {
+            // Waits outside the lock while the first request for the key is still pricing
+            return await(key, stored.result);
+        }
+
+        try {
+            Receipt receipt = pricing.get();
+            entry.result.complete(receipt);
+            recordReceipt(key, entry, receipt);
+            return receipt;
+        } catch (Throwable ex) {
+            // Waiters must be released whatever the failure, errors included
+            entry.result.completeExceptionally(ex);
+            synchronized (this) {
+                if (entries.remove(key, entry)) {
+                    bytes -= entry.bytes;
+                }
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Store size and hit counters since startup.
+     */
+    public synchronized IdempotencyStatsResponse stats() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return new IdempotencyStatsResponse(
+                entries.size(),
+                bytes,
+                hitCount,
+                total - hitCount,
+                total == 0 ? 0.0 : (double) hitCount / total
+        );
+    }
+
+    private void validateKey(String key) {
+        int maxLength = config.getIdempotency().getMaxKeyLength();
+        if (key.isBlank() || key.length() > maxLength) {
+            throw new OrderValidationException(Map.of(
+                    HEADER, "Must be 1 to " + maxLength + " characters"
+            ));
+        }
+    }
+
+    private byte[] fingerprint(OrderRequest request) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(jsonMapper.writeValueAsBytes(request));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private synchronized void recordReceipt(String key, Entry entry, Receipt receipt) {
+        if (entries.get(key) != entry) {
+            return;
+        }
+        long receiptBytes = 0;
+        for (ReceiptLine line : receipt.lines()) {
+            receiptBytes += LINE_BYTES + 2L * line.description().length();
+        }
+        entry.bytes += receiptBytes;
+        bytes += receiptBytes;
+        evictOverflow();
+    }
+
+    private void evictExpired(long nowNanos) {
+        long ttlNanos = config.getIdempotency().getTtl().toNanos();
+        Iterator<Entry> oldestFirst = entries.values().iterator();
+        while (oldestFirst.hasNext()) {
+            Entry entry = oldestFirst.next();
+            if (nowNanos - entry.createdAtNanos <= ttlNanos) {
+                return;
+            }
+            oldestFirst.remove();
+            bytes -= entry.bytes;
+        }
+    }
+
+    private void evictOverflow() {
+        PricingConfiguration.IdempotencySettings limits = config.getIdempotency();
+        Iterator<Entry> oldestFirst = entries.values().iterator();
+        while (oldestFirst.hasNext()
+                && (entries.size() > limits.getMaxEntries() || bytes > limits.getMaxBytes())) {
+            bytes -= oldestFirst.next().bytes;
+            oldestFirst.remove();
+        }
+    }
+
+    private Receipt await(String key, CompletableFuture<Receipt> result) {
+        long maxWaitNanos = config.getIdempotency().getMaxWait().toNanos();
+        try {
+            return result.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CompletionException(ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new IdempotencyKeyInProgressException(key);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException(key);
+        }
+    }
+
+    private static final class Entry {
+
+        private final byte[] fingerprint;
+        private final CompletableFuture<Receipt> result = new CompletableFuture<>();
+        private final long createdAtNanos = System.nanoTime();
+        private long bytes;
+
+        private Entry(byte[] fingerprint, long bytes) {
+            this.fingerprint = fingerprint;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -1,16 +1,25 @@
 package com.online.grocery.pricing.service;
 
+import com.online.grocery.pricing.config.PricingConfiguration;
 import com.online.grocery.pricing.domain.enums.ProductType;
+import com.online.grocery.pricing.domain.model.CompactOrder;
 import com.online.grocery.pricing.domain.model.Order;
-import com.online.grocery.pricing.domain.model.OrderItem;
+import com.online.grocery.pricing.domain.model.OrderBatch;
+import com.online.grocery.pricing.domain.model.OrderBatchTotals;
 import com.online.grocery.pricing.domain.model.Receipt;
 import com.online.grocery.pricing.domain.model.ReceiptLine;
+import com.online.grocery.pricing.exception.OrderValidationException;
+import com.online.grocery.pricing.pricing.context.LineTotals;
+import com.online.grocery.pricing.pricing.context.OrderAccumulator;
 import com.online.grocery.pricing.pricing.strategy.PricingStrategy;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -22,14 +31,17 @@ import java.util.stream.Collectors;
 public class OrderPricingService {
 
     private final Map<ProductType, PricingStrategy> strategies;
+    private final PricingConfiguration config;
 
     /**
      * Constructs the service with auto-discovered pricing strategies.
      * Spring injects all PricingStrategy implementations.
      *
      * @param strategyList All available pricing strategies
+     * @param config       Pricing configuration, read for the bread age limit
      */
-    public OrderPricingService(List<PricingStrategy> strategyList) {
+    public OrderPricingService(List<PricingStrategy> strategyList, PricingConfiguration config) {
+        this.config = config;
         this.strategies = strategyList.stream()
                 .collect(Collectors.toMap(
                         PricingStrategy::getProductType,
@@ -45,21 +57,123 @@ public class OrderPricingService {
      * @throws IllegalStateException if no strategy found for a product type
      */
     public Receipt calculateReceipt(Order order) {
-        Map<ProductType, List<OrderItem>> itemsByType = order.getItems().stream()
-                .collect(Collectors.groupingBy(OrderItem::getType));
-
-        List<ReceiptLine> allLines = itemsByType.entrySet().stream()
-                .flatMap(entry -> {
-                    PricingStrategy strategy = strategies.get(entry.getKey());
-                    if (strategy == null) {
-                        throw new IllegalStateException(
-                                "No pricing strategy registered for product type: " + entry.getKey()
-                        );
-                    }
-                    return strategy.calculatePrice(entry.getValue()).stream();
-                })
+        return calculateReceipt(order, (type, lines) -> {
+        });
+    }
+
+    /**
+     * Calculate a complete receipt for an order, reporting each strategy's lines
+     * as soon as that strategy has finished.
+     * Items are folded into per-type totals in a single pass before any strategy runs.
+     *
+     * @param order         The order containing items to price
+     * @param linesListener Called once per product type present, in ProductType order
+     * @return Receipt with line items and totals
+     * @throws IllegalStateException if no strategy found for a product type
+     */
+    public Receipt calculateReceipt(
+            Order order,
+            BiConsumer<ProductType, List<ReceiptLine>> linesListener
+    ) {
+        OrderAccumulator totals = newTotals();
+        order.getItems().forEach(totals::add);
+
+        List<ReceiptLine> allLines = new ArrayList<>();
+        for (ProductType type : ProductType.values()) {
+            if (totals.contains(type)) {
+                List<ReceiptLine> lines = strategyFor(type).calculatePrice(totals);
+                linesListener.accept(type, lines);
+                allLines.addAll(lines);
+            }
+        }
+
+        return toReceipt(allLines);
+    }
+
+    /**
+     * Calculate a complete receipt for an order packed as primitive longs.
+     * Produces the same receipt as pricing the equivalent {@link Order}.
+     *
+     * @param order The packed order items
+     * @return Receipt with line items and totals
+     * @throws IllegalStateException if no strategy found for a product type
+     */
+    public Receipt calculateReceipt(CompactOrder order) {
+        OrderAccumulator totals = newTotals();
+        totals.addAll(order);
+        return calculateReceipt(totals);
+    }
+
+    /**
+     * Calculate a complete receipt from pre-aggregated order totals.
+     * Produces the same receipt as pricing the items the totals were built from.
+     *
+     * @param totals Running totals for the order
+     * @return Receipt with line items and totals
+     * @throws IllegalStateException if no strategy found for a product type
+     */
+    public Receipt calculateReceipt(OrderAccumulator totals) {
+        List<ReceiptLine> allLines = Arrays.stream(ProductType.values())
+                .filter(totals::contains)
+                .flatMap(type -> strategyFor(type).calculatePrice(totals).stream())
                 .toList();
 
+        return toReceipt(allLines);
+    }
+
+    /**
+     * Calculate the totals of every order in a columnar batch.
+     * One accumulator and one set of cents sums are reused across orders, and the
+     * strategies add their lines to the sums without building receipt lines or
+     * descriptions. Discount rules still work in BigDecimal, so each priced line
+     * allocates its intermediate amounts.
+     *
+     * @param batch Orders to price
+     * @return Subtotal, discount and total of each order, in batch order
+     * @throws OrderValidationException if any order holds bread older than the configured limit
+     * @throws IllegalStateException if no strategy found for a product type
+     */
+    public OrderBatchTotals calculateTotals(OrderBatch batch) {
+        int orders = batch.orderCount();
+        long[] subtotalCents = new long[orders];
+        long[] discountCents = new long[orders];
+        long[] totalCents = new long[orders];
+        ProductType[] types = ProductType.values();
+        OrderAccumulator totals = newTotals();
+        LineTotals sums = new LineTotals();
+
+        for (int order = 0; order < orders; order++) {
+            totals.reset();
+            totals.addAll(batch, order);
+            sums.reset();
+            for (ProductType type : types) {
+                if (totals.contains(type)) {
+                    strategyFor(type).addTotals(totals, sums);
+                }
+            }
+            subtotalCents[order] = sums.subtotalCents();
+            discountCents[order] = sums.discountCents();
+            totalCents[order] = sums.subtotalCents() - sums.discountCents();
+        }
+
+        return new OrderBatchTotals(batch.orderIds(), subtotalCents, discountCents, totalCents);
+    }
+
+    private OrderAccumulator newTotals() {
+        return new OrderAccumulator(config.getBread().getMaxAgeDays());
+    }
+
+    private PricingStrategy strategyFor(ProductType type) {
+        PricingStrategy strategy = strategies.get(type);
+        if (strategy == null) {
+            throw new IllegalStateException(
+                    "No pricing strategy registered for product type: " + type
+            );
+        }
+        return strategy;
+    }
+
+    private Receipt toReceipt(List<ReceiptLine> allLines) {
         BigDecimal subtotal = allLines.stream()
                 .map(ReceiptLine::originalPrice)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
@@ -0,0 +1,68 @@
+package com.online.grocery.pricing.service;
+
+import com.online.grocery.pricing.domain.enums.JobStatus;
+import com.online.grocery.pricing.domain.model.Receipt;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * An asynchronous pricing job and its eventual receipt.
+ *
+ * <p>The finish time is recorded before the result is completed, so a job that reports
+ * itself done always has a finish time to expire from.</p>
+ */
+public final class PricingJob {
+
+    private final String id;
+    private final CompletableFuture<Receipt> result = new CompletableFuture<>();
+    private volatile long finishedAtNanos;
+
+    PricingJob(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Price the job on the calling thread and complete its result.
+     *
+     * @param pricing Produces the receipt, or throws the pricing failure
+     */
+    void run(Supplier<Receipt> pricing) {
+        Receipt receipt;
+        try {
+            receipt = pricing.get();
+        } catch (Throwable failure) {
+            finishedAtNanos = System.nanoTime();
+            result.completeExceptionally(failure);
+            return;
+        }
+        finishedAtNanos = System.nanoTime();
+        result.complete(receipt);
+    }
+
+    public String id() {
+        return id;
+    }
+
+    /**
+     * Future completed with the receipt, or exceptionally with the pricing failure.
+     */
+    public CompletableFuture<Receipt> result() {
+        return result;
+    }
+
+    public JobStatus status() {
+        if (!result.isDone()) {
+            return JobStatus.PENDING;
+        }
+        return result.isCompletedExceptionally() ? JobStatus.FAILED : JobStatus.COMPLETED;
+    }
+
+    /**
+     * Whether the job finished longer than {@code ttl} ago. Pending jobs never expire.
+     */
+    boolean isExpired(long nowNanos, Duration ttl) {
+        return result.isDone() && nowNanos - finishedAtNanos > ttl.toNanos();
+    }
+}
@@ -0,0 +1,199 @@
+package com.online.grocery.pricing.service;
+
+import com.online.grocery.pricing.api.mapper.StreamingOrderReader;
+import com.online.grocery.pricing.config.PricingConfiguration;
+import com.online.grocery.pricing.domain.model.Receipt;
+import com.online.grocery.pricing.exception.OrderValidationException;
+import com.online.grocery.pricing.exception.PricingJobNotFoundException;
+import com.online.grocery.pricing.exception.PricingJobRejectedException;
+import com.online.grocery.pricing.pricing.context.OrderAccumulator;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs pricing for very large orders in the background.
+ *
+ * <p>A job holds one of {@code parallelism + queue-capacity} slots from submission until
+ * it finishes, and the slot is taken before the body is read, so a full queue is
+ * rejected without accepting an upload. Bodies are spooled to a temporary file and
+ * parsed, validated and priced on the dedicated {@code pricingJobExecutor} with the same
+ * streaming reader as /calculate-large, so no job keeps its body in memory.</p>
+ *
+ * <p>Finished jobs are kept for {@code pricing.jobs.result-ttl}. Each job is removed by
+ * a delayed task once its TTL has passed, and expired jobs are also swept on every
+ * submission and lookup; they are reported as not found from then on.</p>
+ */
+@Service
+public class PricingJobService {
+
+    private final ConcurrentMap<String, PricingJob> jobs = new ConcurrentHashMap<>();
+
+    private final StreamingOrderReader streamingOrderReader;
+    private final OrderPricingService pricingService;
+    private final Executor executor;
+    private final PricingConfiguration config;
+    private final Semaphore slots;
+
+    public PricingJobService(
+            StreamingOrderReader streamingOrderReader,
+            OrderPricingService pricingService,
+            @Qualifier("pricingJobExecutor") Executor executor,
+            PricingConfiguration config
+    ) {
+        this.streamingOrderReader = streamingOrderReader;
+        this.pricingService = pricingService;
+        this.executor = executor;
+        this.config = config;
+        PricingConfiguration.JobSettings jobs = config.getJobs();
+        this.slots = new Semaphore(jobs.getParallelism() + jobs.getQueueCapacity());
+    }
+
+    /**
+     * Spool a JSON order body to a temporary file and queue it for pricing.
+     *
+     * @param input Stream holding a JSON OrderRequest
+     * @return The queued job
+     * @throws OrderValidationException    if the body exceeds {@code pricing.jobs.max-body-bytes}
+     * @throws PricingJobRejectedException if the job queue is full
+     * @throws IOException                 if the body cannot be read
+     */
+    public PricingJob submit(InputStream input) throws IOException {
+        evictExpired();
+        if (!slots.tryAcquire()) {
+            throw new PricingJobRejectedException("Pricing job queue is full");
+        }
+
+        Path body = null;
+        try {
+            body = spool(input);
+            PricingJob job = new PricingJob(UUID.randomUUID().toString());
+            Path queuedBody = body;
+            executor.execute(() -> {
+                try {
+                    job.run(() -> price(queuedBody));
+                } finally {
+                    deleteQuietly(queuedBody);
+                    slots.release();
+                }
+            });
+            jobs.put(job.id(), job);
+            job.result().whenComplete((receipt, failure) -> scheduleEviction(job));
+            return job;
+        } catch (RejectedExecutionException ex) {
+            release(body);
+            throw new PricingJobRejectedException("Pricing job queue is full", ex);
+        } catch (IOException | RuntimeException ex) {
+            release(body);
+            throw ex;
+        }
+    }
+
+    /**
+     * Look up a job that has not yet expired.
+     *
+     * @param jobId Job id returned by {@link #submit(InputStream)}
+     * @return The job
+     * @throws PricingJobNotFoundException if the id is unknown or the result has expired
+     */
+    public PricingJob find(String jobId) {
+        evictExpired();
+        PricingJob job = jobs.get(jobId);
+        if (job == null || job.isExpired(System.nanoTime(), config.getJobs().getResultTtl())) {
+            throw new PricingJobNotFoundException(jobId);
+        }
+        return job;
+    }
+
+    /**
+     * Cap a requested long-poll wait at {@code pricing.jobs.max-wait}.
+     */
+    public Duration boundedWait(Duration requested) {
+        Duration maxWait = config.getJobs().getMaxWait();
+        if (requested.isNegative()) {
+            return Duration.ZERO;
+        }
+        return requested.compareTo(maxWait) > 0 ? maxWait : requested;
+    }
+
+    /**
+     * Copy the body to a temporary file, failing once it exceeds the configured limit.
+     */
+    private Path spool(InputStream input) throws IOException {
+        int maxBodyBytes = config.getJobs().getMaxBodyBytes();
+        Path file = Files.createTempFile("pricing-job-", ".json");
+        try (OutputStream output = Files.newOutputStream(file)) {
+            byte[] buffer = new byte[8192];
+            long total = 0;
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                total += read;
+                if (total > maxBodyBytes) {
+                    throw new OrderValidationException(Map.of(
+                            "body", "Order body exceeds " + maxBodyBytes + " bytes"
+                    ));
+                }
+                output.write(buffer, 0, read);
+            }
+        } catch (IOException | RuntimeException ex) {
+            deleteQuietly(file);
+            throw ex;
+        }
+        return file;
+    }
+
+    private Receipt price(Path body) {
+        try (InputStream input = Files.newInputStream(body)) {
+            OrderAccumulator totals = streamingOrderReader.readOrder(input);
+            return pricingService.calculateReceipt(totals);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Give back the slot of a job that never reached the executor.
+     */
+    private void release(Path body) {
+        if (body != null) {
+            deleteQuietly(body);
+        }
+        slots.release();
+    }
+
+    private void scheduleEviction(PricingJob job) {
+        long ttlNanos = config.getJobs().getResultTtl().toNanos();
+        CompletableFuture.delayedExecutor(ttlNanos, TimeUnit.NANOSECONDS, Runnable::run)
+                .execute(() -> jobs.remove(job.id(), job));
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // Left for the OS to clean up with the rest of the temp directory
+        }
+    }
+
+    private void evictExpired() {
+        long now = System.nanoTime();
+        Duration ttl = config.getJobs().getResultTtl();
+        jobs.values().removeIf(job -> job.isExpired(now, ttl));
+    }
+}
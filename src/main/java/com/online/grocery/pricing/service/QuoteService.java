@@ -0,0 +1,227 @@
+package com.online.grocery.pricing.service;
+
+import com.online.grocery.pricing.api.dto.QuoteResponse;
+import com.online.grocery.pricing.api.dto.QuoteVerificationResponse;
+import com.online.grocery.pricing.config.PricingConfiguration;
+import com.online.grocery.pricing.domain.model.MoneyUtils;
+import com.online.grocery.pricing.domain.model.Order;
+import com.online.grocery.pricing.domain.model.Receipt;
+import com.online.grocery.pricing.exception.InvalidQuoteException;
+import com.online.grocery.pricing.pricing.context.OrderAccumulator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * Issues and verifies HMAC-signed price quotes.
+ *
+ * <p>A token carries a hash of the order's canonical totals, the pricing configuration
+ * version, an expiry and the quoted totals, followed by a truncated HMAC-SHA256 over all
+ * of them. Verifying a token for an unchanged configuration costs one hash and one MAC;
+ * the order is priced again only when the configuration version has moved on.</p>
+ *
+ * <p>Tokens are signed with {@code pricing.quote.secret}. Without one, a random key is
+ * generated per process, so tokens are only accepted by the instance that issued them
+ * and only until it restarts. The configuration version is also fixed for the life of a
+ * process, so the re-pricing branch is only reached when a token outlives a restart or
+ * moves between instances with different rules, which requires a configured secret.
+ * A warning is logged at startup when no secret is configured.</p>
+ */
+@Service
+public class QuoteService {
+
+    private static final byte FORMAT = 1;
+    private static final int ORDER_HASH_BYTES = 16;
+    private static final int VERSION_BYTES = 8;
+    private static final int MAC_BYTES = 16;
+    private static final int PAYLOAD_BYTES = 1 + ORDER_HASH_BYTES + VERSION_BYTES + 4 * Long.BYTES;
+    private static final int TOKEN_BYTES = PAYLOAD_BYTES + MAC_BYTES;
+    private static final String HMAC = "HmacSHA256";
+
+    private static final Logger log = LoggerFactory.getLogger(QuoteService.class);
+
+    private final CoalescingPricingService pricingService;
+    private final ConfigurationVersionService versionService;
+    private final PricingConfiguration config;
+    private final ThreadLocal<Mac> macs;
+
+    public QuoteService(
+            CoalescingPricingService pricingService,
+            ConfigurationVersionService versionService,
+            PricingConfiguration config
+    ) {
+        this.pricingService = pricingService;
+        this.versionService = versionService;
+        this.config = config;
+        SecretKeySpec key = new SecretKeySpec(secret(config.getQuote().getSecret()), HMAC);
+        this.macs = ThreadLocal.withInitial(() -> newMac(key));
+    }
+
+    /**
+     * Price an order and sign the result.
+     *
+     * @param order The order containing items to price
+     * @return Receipt with a token that confirms its totals at checkout
+     */
+    public QuoteResponse quote(Order order) {
+        OrderAccumulator totals = accumulate(order);
+        Receipt receipt = pricingService.calculateReceipt(totals);
+        Instant expiresAt = expiry();
+        return new QuoteResponse(receipt, sign(orderHash(totals), receipt, expiresAt), expiresAt);
+    }
+
+    /**
+     * Confirm the price of an order against a token issued by {@link #quote(Order)}.
+     *
+     * @param order The order being checked out
+     * @param token Token returned when the order was quoted
+     * @return The quoted totals, or fresh totals and a new token if the pricing rules changed
+     * @throws InvalidQuoteException if the token is malformed, forged, expired or for another order
+     */
+    public QuoteVerificationResponse verify(Order order, String token) {
+        ByteBuffer quote = decode(token);
+        byte format = quote.get();
+        byte[] orderHash = new byte[ORDER_HASH_BYTES];
+        quote.get(orderHash);
+        byte[] version = new byte[VERSION_BYTES];
+        quote.get(version);
+        Instant expiresAt = Instant.ofEpochSecond(quote.getLong());
+        BigDecimal subtotal = BigDecimal.valueOf(quote.getLong(), 2);
+        BigDecimal totalDiscount = BigDecimal.valueOf(quote.getLong(), 2);
+        BigDecimal total = BigDecimal.valueOf(quote.getLong(), 2);
+
+        if (format != FORMAT) {
+            throw new InvalidQuoteException("Unsupported quote token format");
+        }
+        if (!Instant.now().isBefore(expiresAt)) {
+            throw new InvalidQuoteException("Quote has expired");
+        }
+        OrderAccumulator totals = accumulate(order);
+        byte[] currentHash = orderHash(totals);
+        if (!Arrays.equals(orderHash, currentHash)) {
+            throw new InvalidQuoteException("Quote was issued for a different order");
+        }
+
+        if (Arrays.equals(version, currentVersion())) {
+            return new QuoteVerificationResponse(
+                    false, false, subtotal, totalDiscount, total, token, expiresAt
+            );
+        }
+
+        Receipt receipt = pricingService.calculateReceipt(totals);
+        Instant renewedExpiry = expiry();
+        return new QuoteVerificationResponse(
+                true,
+                receipt.total().compareTo(total) != 0,
+                receipt.subtotal(),
+                receipt.totalDiscount(),
+                receipt.total(),
+                sign(currentHash, receipt, renewedExpiry),
+                renewedExpiry
+        );
+    }
+
+    private String sign(byte[] orderHash, Receipt receipt, Instant expiresAt) {
+        ByteBuffer token = ByteBuffer.allocate(TOKEN_BYTES)
+                .put(FORMAT)
+                .put(orderHash)
+                .put(currentVersion())
+                .putLong(expiresAt.getEpochSecond())
+                .putLong(cents(receipt.subtotal()))
+                .putLong(cents(receipt.totalDiscount()))
+                .putLong(cents(receipt.total()));
+        token.put(mac(token.array()), 0, MAC_BYTES);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.array());
+    }
+
+    private ByteBuffer decode(String token) {
+        if (token.length() > 2 * TOKEN_BYTES) {
+            throw new InvalidQuoteException("Malformed quote token");
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidQuoteException("Malformed quote token");
+        }
+        if (bytes.length != TOKEN_BYTES) {
+            throw new InvalidQuoteException("Malformed quote token");
+        }
+
+        byte[] expected = Arrays.copyOf(mac(bytes), MAC_BYTES);
+        byte[] actual = Arrays.copyOfRange(bytes, PAYLOAD_BYTES, TOKEN_BYTES);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw new InvalidQuoteException("Quote token signature is invalid");
+        }
+        return ByteBuffer.wrap(bytes, 0, PAYLOAD_BYTES);
+    }
+
+    private byte[] mac(byte[] payload) {
+        Mac mac = macs.get();
+        mac.update(payload, 0, PAYLOAD_BYTES);
+        return mac.doFinal();
+    }
+
+    private byte[] currentVersion() {
+        return HexFormat.of().parseHex(versionService.currentVersion());
+    }
+
+    private Instant expiry() {
+        return Instant.now().plus(config.getQuote().getTtl()).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private OrderAccumulator accumulate(Order order) {
+        OrderAccumulator totals = new OrderAccumulator(config.getBread().getMaxAgeDays());
+        order.getItems().forEach(totals::add);
+        return totals;
+    }
+
+    private static byte[] orderHash(OrderAccumulator totals) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(totals.toKey().toBytes());
+            return Arrays.copyOf(digest, ORDER_HASH_BYTES);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private static long cents(BigDecimal amount) {
+        return MoneyUtils.normalize(amount).unscaledValue().longValueExact();
+    }
+
+    private static byte[] secret(String configured) {
+        if (configured != null && !configured.isBlank()) {
+            return configured.getBytes(StandardCharsets.UTF_8);
+        }
+        log.warn("pricing.quote.secret is not set; quote tokens are signed with a per-process key "
+                + "and are rejected after a restart or by other instances");
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(HMAC + " not available", ex);
+        }
+    }
+}
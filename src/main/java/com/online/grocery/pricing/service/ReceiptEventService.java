@@ -0,0 +1,85 @@
+package com.online.grocery.pricing.service;
+
+import com.online.grocery.pricing.api.dto.ReceiptLinesEventResponse;
+import com.online.grocery.pricing.api.dto.ReceiptTotalsResponse;
+import com.online.grocery.pricing.api.mapper.OrderMapper;
+import com.online.grocery.pricing.domain.model.Order;
+import com.online.grocery.pricing.domain.model.Receipt;
+import com.online.grocery.pricing.exception.GlobalExceptionHandler;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Writes a receipt as a stream of server-sent events.
+ *
+ * <p>One {@code lines} event is written and flushed as soon as each pricing strategy has
+ * finished, followed by a single {@code totals} event. If pricing fails after the stream
+ * has started, an {@code error} event carrying the usual ErrorResponse ends the stream,
+ * because the HTTP status can no longer change.</p>
+ */
+@Service
+public class ReceiptEventService {
+
+    public static final String LINES_EVENT = "lines";
+    public static final String TOTALS_EVENT = "totals";
+    public static final String ERROR_EVENT = "error";
+
+    private final OrderPricingService pricingService;
+    private final OrderMapper orderMapper;
+    private final JsonMapper jsonMapper;
+    private final GlobalExceptionHandler exceptionHandler;
+
+    public ReceiptEventService(
+            OrderPricingService pricingService,
+            OrderMapper orderMapper,
+            JsonMapper jsonMapper,
+            GlobalExceptionHandler exceptionHandler
+    ) {
+        this.pricingService = pricingService;
+        this.orderMapper = orderMapper;
+        this.jsonMapper = jsonMapper;
+        this.exceptionHandler = exceptionHandler;
+    }
+
+    /**
+     * Price an order and write its lines and totals as events.
+     *
+     * @param order  The order to price
+     * @param output Writer receiving the text/event-stream body
+     * @throws IOException if writing to the stream fails
+     */
+    public void streamReceipt(Order order, Writer output) throws IOException {
+        try {
+            Receipt receipt = pricingService.calculateReceipt(order, (type, lines) -> writeEvent(
+                    output,
+                    LINES_EVENT,
+                    new ReceiptLinesEventResponse(type, lines.stream()
+                            .map(orderMapper::toReceiptLineResponse)
+                            .toList())
+            ));
+            writeEvent(output, TOTALS_EVENT, new ReceiptTotalsResponse(
+                    receipt.subtotal(),
+                    receipt.totalDiscount(),
+                    receipt.total()
+            ));
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        } catch (RuntimeException ex) {
+            writeEvent(output, ERROR_EVENT, exceptionHandler.resolve(ex).getBody());
+        }
+    }
+
+    private void writeEvent(Writer output, String event, Object payload) {
+        try {
+            output.write("event: " + event + "\n");
+            output.write("data: " + jsonMapper.writeValueAsString(payload) + "\n\n");
+            output.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
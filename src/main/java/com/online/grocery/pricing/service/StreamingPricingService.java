@@ -0,0 +1,209 @@
+package com.online.grocery.pricing.service;
+
+import com.online.grocery.pricing.api.dto.BatchOrderResultResponse;
+import com.online.grocery.pricing.api.dto.OrderRequest;
+import com.online.grocery.pricing.config.PricingConfiguration;
+import com.online.grocery.pricing.exception.OrderValidationException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Prices a newline-delimited JSON stream of orders.
+ *
+ * <p>Each input line holds one OrderRequest and produces exactly one output line,
+ * in input order: a ReceiptResponse on success or an ErrorResponse on failure.
+ * At most {@code pricing.stream.max-in-flight} orders are buffered at once; when the
+ * window is full the next line is not read until the oldest result has been written,
+ * so memory stays bounded regardless of stream length. Lines longer than
+ * {@code pricing.stream.max-line-length} characters are skipped without being buffered
+ * and answered with an error line.</p>
+ */
+@Service
+public class StreamingPricingService {
+
+    private final BatchPricingService batchPricingService;
+    private final JsonMapper jsonMapper;
+    private final Executor executor;
+    private final PricingConfiguration config;
+
+    public StreamingPricingService(
+            BatchPricingService batchPricingService,
+            JsonMapper jsonMapper,
+            @Qualifier("batchPricingExecutor") Executor executor,
+            PricingConfiguration config
+    ) {
+        this.batchPricingService = batchPricingService;
+        this.jsonMapper = jsonMapper;
+        this.executor = executor;
+        this.config = config;
+    }
+
+    /**
+     * Price every order read from the input and write one result line per order.
+     *
+     * @param input  Reader positioned at the first NDJSON line
+     * @param output Writer receiving the NDJSON results
+     * @throws IOException if reading or writing the stream fails
+     */
+    public void priceStream(Reader input, Writer output) throws IOException {
+        int maxInFlight = config.getStream().getMaxInFlight();
+        int maxLineLength = config.getStream().getMaxLineLength();
+        Deque<CompletableFuture<BatchOrderResultResponse>> inFlight = new ArrayDeque<>(maxInFlight);
+        BoundedLineReader lines = new BoundedLineReader(input, maxLineLength);
+
+        int index = 0;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            boolean tooLong = lines.tooLong();
+            if (!tooLong && line.isBlank()) {
+                continue;
+            }
+            if (inFlight.size() >= maxInFlight) {
+                writeResult(inFlight.removeFirst(), output);
+            }
+
+            int lineIndex = index++;
+            if (tooLong) {
+                inFlight.addLast(CompletableFuture.completedFuture(batchPricingService.toFailure(
+                        lineIndex,
+                        new OrderValidationException(Map.of(
+                                "line", "Order line exceeds " + maxLineLength + " characters"
+                        ))
+                )));
+                continue;
+            }
+            String json = line;
+            inFlight.addLast(CompletableFuture.supplyAsync(
+                    () -> priceLine(lineIndex, json),
+                    executor
+            ));
+        }
+
+        while (!inFlight.isEmpty()) {
+            writeResult(inFlight.removeFirst(), output);
+        }
+        output.flush();
+    }
+
+    private BatchOrderResultResponse priceLine(int index, String json) {
+        OrderRequest request;
+        try {
+            request = jsonMapper.readValue(json, OrderRequest.class);
+        } catch (JacksonException ex) {
+            return batchPricingService.toFailure(
+                    index,
+                    new OrderValidationException(Map.of("line", "Malformed order JSON"))
+            );
+        }
+        return batchPricingService.priceOrder(index, request);
+    }
+
+    private void writeResult(
+            CompletableFuture<BatchOrderResultResponse> pending,
+            Writer output
+    ) throws IOException {
+        if (!pending.isDone()) {
+            // Push completed lines to the client before blocking on the next one
+            output.flush();
+        }
+
+        BatchOrderResultResponse result = pending.join();
+        Object body = result.receipt() != null ? result.receipt() : result.error();
+        output.write(jsonMapper.writeValueAsString(body));
+        output.write('\n');
+    }
+
+    /**
+     * Splits a character stream into lines of at most maxLength characters.
+     * Accepts LF, CR and CRLF line ends. Characters past the limit are read and
+     * dropped rather than buffered, so an over-long line holds no more memory than
+     * a line at the limit.
+     */
+    private static final class BoundedLineReader {
+
+        private final Reader input;
+        private final int maxLength;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder line = new StringBuilder();
+        private int position;
+        private int limit;
+        private boolean skipLineFeed;
+        private boolean tooLong;
+
+        BoundedLineReader(Reader input, int maxLength) {
+            this.input = input;
+            this.maxLength = maxLength;
+        }
+
+        /**
+         * @return The next line without its terminator, an empty string if it was too
+         * long, or null at end of stream
+         */
+        String readLine() throws IOException {
+            line.setLength(0);
+            tooLong = false;
+            boolean started = false;
+            while (true) {
+                if (position == limit && !fill()) {
+                    return started ? finish() : null;
+                }
+                if (skipLineFeed) {
+                    skipLineFeed = false;
+                    if (buffer[position] == '\n') {
+                        position++;
+                        continue;
+                    }
+                }
+
+                started = true;
+                int start = position;
+                while (position < limit && buffer[position] != '\n' && buffer[position] != '\r') {
+                    position++;
+                }
+                append(start, position - start);
+                if (position < limit) {
+                    skipLineFeed = buffer[position++] == '\r';
+                    return finish();
+                }
+            }
+        }
+
+        /**
+         * @return Whether the line last returned by readLine exceeded the limit
+         */
+        boolean tooLong() {
+            return tooLong;
+        }
+
+        private boolean fill() throws IOException {
+            int read = input.read(buffer, 0, buffer.length);
+            position = 0;
+            limit = Math.max(read, 0);
+            return read > 0;
+        }
+
+        private void append(int offset, int count) {
+            int room = maxLength - line.length();
+            if (count > room) {
+                tooLong = true;
+                count = room;
+            }
+            line.append(buffer, offset, count);
+        }
+
+        private String finish() {
+            return tooLong ? "" : line.toString();
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package com.online.grocery.pricing.tcp;
+
+import com.online.grocery.pricing.api.codec.OrderWireCodec;
+import com.online.grocery.pricing.api.dto.ErrorResponse;
+import com.online.grocery.pricing.api.dto.OrderRequest;
+import com.online.grocery.pricing.config.PricingConfiguration;
+import com.online.grocery.pricing.domain.model.Receipt;
+import com.online.grocery.pricing.exception.GlobalExceptionHandler;
+import com.online.grocery.pricing.exception.OrderValidationException;
+import com.online.grocery.pricing.service.BatchPricingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Selector-based TCP listener for binary pricing frames.
+ *
+ * <p>Every frame is a 4-byte big-endian length followed by that many bytes. Request
+ * payloads are orders in the {@link OrderWireCodec} format. Response payloads start with
+ * a 2-byte HTTP-style status: 200 is followed by a wire receipt, anything else by a JSON
+ * ErrorResponse with the same code the HTTP API would return.</p>
+ *
+ * <p>Clients may pipeline several frames per connection; responses are written in request
+ * order. Frames are priced on the single selector thread, which avoids any hand-off for a
+ * microsecond-scale workload but means every connection waits while one frame is priced.
+ * {@code pricing.tcp.max-frame-bytes} therefore defaults to 64 KiB; large orders belong on
+ * the HTTP job API rather than this listener. While a connection has unsent responses it
+ * is not read from, so a slow reader cannot make the server buffer unbounded output.</p>
+ *
+ * <p>If accepting a connection fails (for example when the process is out of file
+ * descriptors), accepts are paused for {@link #ACCEPT_BACKOFF} rather than retried on
+ * every select, which would otherwise spin the selector thread.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "pricing.tcp", name = "enabled", havingValue = "true")
+public class TcpPricingServer implements SmartLifecycle {
+
+    private static final int LENGTH_BYTES = Integer.BYTES;
+    private static final int STATUS_BYTES = Short.BYTES;
+    private static final int INITIAL_BUFFER_BYTES = 8 * 1024;
+    static final Duration ACCEPT_BACKOFF = Duration.ofMillis(100);
+
+    private static final Logger log = LoggerFactory.getLogger(TcpPricingServer.class);
+
+    private final BatchPricingService batchPricingService;
+    private final GlobalExceptionHandler exceptionHandler;
+    private final JsonMapper jsonMapper;
+    private final PricingConfiguration.TcpSettings settings;
+
+    private volatile boolean running;
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private SelectionKey serverKey;
+    private Thread selectorThread;
+    private long acceptResumeAtNanos;
+    private boolean acceptPaused;
+
+    public TcpPricingServer(
+            BatchPricingService batchPricingService,
+            GlobalExceptionHandler exceptionHandler,
+            JsonMapper jsonMapper,
+            PricingConfiguration config
+    ) {
+        this.batchPricingService = batchPricingService;
+        this.exceptionHandler = exceptionHandler;
+        this.jsonMapper = jsonMapper;
+        this.settings = config.getTcp();
+    }
+
+    @Override
+    public void start() {
+        try {
+            selector = Selector.open();
+            serverChannel = ServerSocketChannel.open();
+            serverChannel.bind(new InetSocketAddress(settings.getHost(), settings.getPort()));
+            serverChannel.configureBlocking(false);
+            serverKey = serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to start TCP pricing listener", ex);
+        }
+
+        running = true;
+        selectorThread = Thread.ofPlatform().name("tcp-pricing").start(this::runSelector);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (selector != null) {
+            selector.wakeup();
+        }
+        if (selectorThread == null) {
+            return;
+        }
+        try {
+            selectorThread.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Port the listener is bound to; useful when configured with port 0.
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    private void runSelector() {
+        try (Selector ownedSelector = selector; ServerSocketChannel ownedServer = serverChannel) {
+            while (running) {
+                ownedSelector.select(selectTimeoutMillis());
+                resumeAcceptIfDue();
+                Iterator<SelectionKey> keys = ownedSelector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handleKey(key);
+                }
+            }
+            for (SelectionKey key : ownedSelector.keys()) {
+                close(key);
+            }
+        } catch (IOException ex) {
+            log.error("TCP pricing selector failed; listener on port {} stopped", getPort(), ex);
+        } catch (RuntimeException | Error ex) {
+            log.error("TCP pricing selector thread failed unexpectedly; listener on port {} stopped",
+                    getPort(), ex);
+        } finally {
+            running = false;
+        }
+    }
+
+    /**
+     * Block indefinitely unless accepts are paused, in which case wake up when they are
+     * due to resume.
+     */
+    private long selectTimeoutMillis() {
+        if (!acceptPaused) {
+            return 0;
+        }
+        long remaining = Duration.ofNanos(acceptResumeAtNanos - System.nanoTime()).toMillis();
+        return Math.max(1, remaining);
+    }
+
+    private void resumeAcceptIfDue() {
+        if (acceptPaused && System.nanoTime() - acceptResumeAtNanos >= 0) {
+            acceptPaused = false;
+            serverKey.interestOps(SelectionKey.OP_ACCEPT);
+        }
+    }
+
+    private void handleKey(SelectionKey key) {
+        try {
+            if (key.isAcceptable()) {
+                accept();
+                return;
+            }
+            if (key.isReadable()) {
+                read(key);
+            }
+            if (key.isValid() && key.isWritable()) {
+                write(key);
+            }
+        } catch (IOException ex) {
+            close(key);
+        } catch (RuntimeException ex) {
+            // e.g. CancelledKeyException; only this connection is affected
+            log.warn("Closing TCP pricing connection after unexpected failure", ex);
+            close(key);
+        }
+    }
+
+    /**
+     * Accept one pending connection. If accepting fails the connection stays queued and
+     * {@code OP_ACCEPT} is dropped until {@link #ACCEPT_BACKOFF} has passed; the server
+     * key stays registered, so the listener resumes accepting afterwards.
+     */
+    private void accept() {
+        SocketChannel channel;
+        try {
+            channel = acceptChannel();
+        } catch (IOException ex) {
+            log.warn("Failed to accept TCP pricing connection; pausing accepts for {} ms",
+                    ACCEPT_BACKOFF.toMillis(), ex);
+            serverKey.interestOps(0);
+            acceptPaused = true;
+            acceptResumeAtNanos = System.nanoTime() + ACCEPT_BACKOFF.toNanos();
+            return;
+        }
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            channel.register(selector, SelectionKey.OP_READ, new Connection());
+        } catch (IOException ex) {
+            close(channel);
+        }
+    }
+
+    /**
+     * Accept from the server channel; overridable so tests can simulate accept failures.
+     */
+    SocketChannel acceptChannel() throws IOException {
+        return serverChannel.accept();
+    }
+
+    private void read(SelectionKey key) throws IOException {
+        SocketChannel channel = (SocketChannel) key.channel();
+        Connection connection = (Connection) key.attachment();
+
+        if (channel.read(connection.input) < 0) {
+            close(key);
+            return;
+        }
+
+        ByteBuffer input = connection.input;
+        input.flip();
+        int required = 0;
+        while (input.remaining() >= LENGTH_BYTES) {
+            int length = input.getInt(input.position());
+            if (length < 0 || length > settings.getMaxFrameBytes()) {
+                close(key);
+                return;
+            }
+            if (input.remaining() < LENGTH_BYTES + length) {
+                required = LENGTH_BYTES + length;
+                break;
+            }
+
+            input.position(input.position() + LENGTH_BYTES);
+            byte[] payload = new byte[length];
+            input.get(payload);
+            connection.output.addLast(handleFrame(payload));
+        }
+        input.compact();
+        connection.ensureCapacity(required);
+
+        write(key);
+    }
+
+    private void write(SelectionKey key) throws IOException {
+        SocketChannel channel = (SocketChannel) key.channel();
+        Deque<ByteBuffer> output = ((Connection) key.attachment()).output;
+
+        while (!output.isEmpty()) {
+            ByteBuffer head = output.peekFirst();
+            channel.write(head);
+            if (head.hasRemaining()) {
+                key.interestOps(SelectionKey.OP_WRITE);
+                return;
+            }
+            output.removeFirst();
+        }
+        key.interestOps(SelectionKey.OP_READ);
+    }
+
+    private ByteBuffer handleFrame(byte[] payload) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(128);
+        int status;
+        try {
+            OrderRequest request = OrderWireCodec.readOrder(new ByteArrayInputStream(payload));
+            Receipt receipt = batchPricingService.calculateReceipt(request);
+            OrderWireCodec.writeReceipt(receipt, body);
+            status = HttpStatus.OK.value();
+        } catch (IOException ex) {
+            status = writeError(new OrderValidationException(Map.of("frame", "Malformed order frame")), body);
+        } catch (Exception ex) {
+            status = writeError(ex, body);
+        }
+
+        ByteBuffer frame = ByteBuffer.allocate(LENGTH_BYTES + STATUS_BYTES + body.size());
+        frame.putInt(STATUS_BYTES + body.size());
+        frame.putShort((short) status);
+        frame.put(body.toByteArray());
+        return frame.flip();
+    }
+
+    private int writeError(Exception ex, ByteArrayOutputStream body) {
+        ResponseEntity<ErrorResponse> error = exceptionHandler.resolve(ex);
+        body.writeBytes(jsonMapper.writeValueAsBytes(error.getBody()));
+        return error.getStatusCode().value();
+    }
+
+    private static void close(SelectionKey key) {
+        key.cancel();
+        close(key.channel());
+    }
+
+    private static void close(Channel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // Connection is being discarded
+        }
+    }
+
+    /**
+     * Per-connection read buffer and queue of encoded responses.
+     */
+    private static final class Connection {
+
+        private ByteBuffer input = ByteBuffer.allocate(INITIAL_BUFFER_BYTES);
+        private final Deque<ByteBuffer> output = new ArrayDeque<>();
+
+        private void ensureCapacity(int frameBytes) {
+            if (frameBytes > input.capacity()) {
+                ByteBuffer larger = ByteBuffer.allocate(frameBytes);
+                input.flip();
+                larger.put(input);
+                input = larger;
+            }
+        }
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * TCP Transport.
+ * Optional low-latency binary listener that runs alongside the HTTP API.
+ */
+package com.online.grocery.pricing.tcp;
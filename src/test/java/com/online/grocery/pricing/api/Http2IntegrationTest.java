@@ -0,0 +1,69 @@
+package com.online.grocery.pricing.api;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class Http2IntegrationTest {
+
+    private static final int STREAMS = 50;
+
+    private static final String ORDER = """
+            {"items":[{"type":"BREAD","quantity":3,"daysOld":3},{"type":"BEER","quantity":6,"origin":"DUTCH"}]}""";
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .build();
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void shouldUpgradeCleartextConnectionsToHttp2() throws Exception {
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(uri("/api/v1/products/prices")).build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.version()).isEqualTo(HttpClient.Version.HTTP_2);
+    }
+
+    @Test
+    void shouldPriceConcurrentStreamsOverHttp2() throws Exception {
+        // The first request upgrades the connection; the rest are multiplexed on it
+        client.send(HttpRequest.newBuilder(uri("/api/v1/products/prices")).build(),
+                HttpResponse.BodyHandlers.discarding());
+
+        List<CompletableFuture<HttpResponse<String>>> responses = IntStream.range(0, STREAMS)
+                .mapToObj(i -> client.sendAsync(
+                        HttpRequest.newBuilder(uri("/api/v1/orders/calculate"))
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(ORDER))
+                                .build(),
+                        HttpResponse.BodyHandlers.ofString()))
+                .toList();
+
+        for (CompletableFuture<HttpResponse<String>> pending : responses) {
+            HttpResponse<String> response = pending.join();
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.version()).isEqualTo(HttpClient.Version.HTTP_2);
+            assertThat(response.body()).contains("\"total\":3.00");
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,112 @@
+package com.online.grocery.pricing.api;
+
+import com.online.grocery.pricing.api.codec.OrderWireCodec;
+import com.online.grocery.pricing.api.codec.OrderWireHttpMessageConverter;
+import com.online.grocery.pricing.api.dto.OrderItemRequest;
+import com.online.grocery.pricing.api.dto.OrderRequest;
+import com.online.grocery.pricing.api.dto.ReceiptResponse;
+import com.online.grocery.pricing.domain.enums.BeerOrigin;
+import com.online.grocery.pricing.domain.enums.ProductType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class OrderControllerBinaryFormatTest {
+
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final OrderRequest request = new OrderRequest(List.of(
+            new OrderItemRequest(ProductType.BREAD, 3, 3, null, null),
+            new OrderItemRequest(ProductType.VEGETABLE, null, null, 200, null),
+            new OrderItemRequest(ProductType.BEER, 6, null, null, BeerOrigin.DUTCH)
+    ));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldAcceptAndProduceCbor() throws Exception {
+        assertRoundTrip(CBORMapper.builder().build(), MediaType.APPLICATION_CBOR);
+    }
+
+    @Test
+    void shouldAcceptAndProduceSmile() throws Exception {
+        assertRoundTrip(SmileMapper.builder().build(), APPLICATION_SMILE);
+    }
+
+    @Test
+    void shouldKeepJsonAsDefaultResponseFormat() throws Exception {
+        mockMvc.perform(post("/api/v1/orders/calculate")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .content(CBORMapper.builder().build().writeValueAsBytes(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void shouldMatchJsonReceiptOverWireCodec() throws Exception {
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        OrderWireCodec.writeOrder(request, encoded);
+
+        byte[] wireBody = mockMvc.perform(post("/api/v1/orders/calculate")
+                        .contentType(OrderWireHttpMessageConverter.MEDIA_TYPE)
+                        .accept(OrderWireHttpMessageConverter.MEDIA_TYPE)
+                        .content(encoded.toByteArray()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(OrderWireHttpMessageConverter.MEDIA_TYPE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+        byte[] jsonBody = mockMvc.perform(post("/api/v1/orders/calculate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonMapper.writeValueAsBytes(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(OrderWireCodec.readReceipt(new ByteArrayInputStream(wireBody)))
+                .isEqualTo(jsonMapper.readValue(jsonBody, ReceiptResponse.class));
+    }
+
+    @Test
+    void shouldValidateWireDecodedOrders() throws Exception {
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        OrderWireCodec.writeOrder(new OrderRequest(List.of()), encoded);
+
+        mockMvc.perform(post("/api/v1/orders/calculate")
+                        .contentType(OrderWireHttpMessageConverter.MEDIA_TYPE)
+                        .content(encoded.toByteArray()))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void assertRoundTrip(ObjectMapper mapper, MediaType mediaType) throws Exception {
+        byte[] body = mockMvc.perform(post("/api/v1/orders/calculate")
+                        .contentType(mediaType)
+                        .accept(mediaType)
+                        .content(mapper.writeValueAsBytes(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        ReceiptResponse receipt = mapper.readValue(body, ReceiptResponse.class);
+        assertThat(receipt.lines()).hasSize(3);
+        assertThat(receipt.total()).isEqualByComparingTo("4.86");
+    }
+}
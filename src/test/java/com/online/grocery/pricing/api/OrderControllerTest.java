@@ -14,8 +14,10 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -75,6 +77,16 @@ class OrderControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void shouldReturnBadRequestForMalformedJson() throws Exception {
+        mockMvc.perform(post("/api/v1/orders/calculate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\": ["))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code", is("VALIDATION_ERROR")))
+                .andExpect(jsonPath("$.details.body", is("Malformed JSON body")));
+    }
+
     @Test
     void shouldReturnBadRequestForInvalidBreadAge() throws Exception {
         OrderRequest request = new OrderRequest(List.of(
@@ -128,4 +140,166 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.code", is("INVALID_ORDER")))
                 .andExpect(jsonPath("$.message", containsString("weightGrams")));
     }
+
+    @Test
+    void shouldCalculateBatchWithPerOrderResults() throws Exception {
+        List<OrderRequest> requests = List.of(
+                new OrderRequest(List.of(
+                        new OrderItemRequest(ProductType.BREAD, 3, 3, null, null),
+                        new OrderItemRequest(ProductType.VEGETABLE, null, null, 200, null),
+                        new OrderItemRequest(ProductType.BEER, 6, null, null, BeerOrigin.DUTCH)
+                )),
+                new OrderRequest(List.of()),
+                new OrderRequest(List.of(
+                        new OrderItemRequest(ProductType.BEER, 6, null, null, null)
+                ))
+        );
+
+        mockMvc.perform(post("/api/v1/orders/calculate-batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].index", is(0)))
+                .andExpect(jsonPath("$[0].status", is(200)))
+                .andExpect(jsonPath("$[0].receipt.total", is(4.86)))
+                .andExpect(jsonPath("$[1].status", is(400)))
+                .andExpect(jsonPath("$[1].error.code", is("VALIDATION_ERROR")))
+                .andExpect(jsonPath("$[1].error.details.items", is("At least one item required")))
+                .andExpect(jsonPath("$[2].status", is(422)))
+                .andExpect(jsonPath("$[2].error.code", is("INVALID_ORDER")))
+                .andExpect(jsonPath("$[2].error.message", containsString("origin")));
+    }
+
+    @Test
+    void shouldReturnBadRequestForEmptyBatch() throws Exception {
+        mockMvc.perform(post("/api/v1/orders/calculate-batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code", is("VALIDATION_ERROR")))
+                .andExpect(jsonPath("$.details.orders", is("At least one order required")));
+    }
+
+    @Test
+    void shouldPriceNdjsonStreamLineByLine() throws Exception {
+        String body = """
+                {"items":[{"type":"BREAD","quantity":3,"daysOld":3}]}
+                {"items":[{"type":"BEER","quantity":6}]}
+
+                {"items":[{"type":"VEGETABLE","weightGrams":200}]}
+                """;
+
+        String response = mockMvc.perform(post("/api/v1/orders/calculate-stream")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = response.split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).contains("\"total\":2.00");
+        assertThat(lines[1]).contains("\"code\":\"INVALID_ORDER\"");
+        assertThat(lines[2]).contains("\"total\":1.86");
+    }
+
+    @Test
+    void shouldCalculateLargeOrderLikeBufferedEndpoint() throws Exception {
+        OrderRequest request = new OrderRequest(List.of(
+                new OrderItemRequest(ProductType.BREAD, 3, 3, null, null),
+                new OrderItemRequest(ProductType.VEGETABLE, null, null, 200, null),
+                new OrderItemRequest(ProductType.BEER, 6, null, null, BeerOrigin.DUTCH)
+        ));
+        String body = objectMapper.writeValueAsString(request);
+
+        String buffered = mockMvc.perform(post("/api/v1/orders/calculate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(post("/api/v1/orders/calculate-large")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().json(buffered))
+                .andExpect(jsonPath("$.total", is(4.86)));
+    }
+
+    @Test
+    void shouldStreamReceiptLinesAsServerSentEvents() throws Exception {
+        OrderRequest request = new OrderRequest(List.of(
+                new OrderItemRequest(ProductType.BREAD, 3, 3, null, null),
+                new OrderItemRequest(ProductType.VEGETABLE, null, null, 200, null),
+                new OrderItemRequest(ProductType.BEER, 6, null, null, BeerOrigin.DUTCH)
+        ));
+
+        String response = mockMvc.perform(post("/api/v1/orders/calculate-events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] events = response.split("\n\n");
+        assertThat(events).hasSize(4);
+        assertThat(events[0]).startsWith("event: lines\n").contains("\"productType\":\"BREAD\"");
+        assertThat(events[1]).contains("\"productType\":\"VEGETABLE\"");
+        assertThat(events[2]).contains("\"productType\":\"BEER\"");
+        assertThat(events[3]).startsWith("event: totals\n").contains("\"total\":4.86");
+    }
+
+    @Test
+    void shouldRejectInvalidOrderBeforeStartingEventStream() throws Exception {
+        mockMvc.perform(post("/api/v1/orders/calculate-events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new OrderRequest(List.of()))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code", is("VALIDATION_ERROR")));
+    }
+
+    @Test
+    void shouldReplayReceiptForRepeatedIdempotencyKey() throws Exception {
+        String body = objectMapper.writeValueAsString(new OrderRequest(List.of(
+                new OrderItemRequest(ProductType.BEER, 6, null, null, BeerOrigin.GERMAN)
+        )));
+
+        String first = mockMvc.perform(post("/api/v1/orders/calculate")
+                        .header("Idempotency-Key", "controller-replay")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(post("/api/v1/orders/calculate")
+                        .header("Idempotency-Key", "controller-replay")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().json(first));
+    }
+
+    @Test
+    void shouldRejectIdempotencyKeyReusedWithDifferentBody() throws Exception {
+        OrderRequest bread = new OrderRequest(List.of(
+                new OrderItemRequest(ProductType.BREAD, 1, 0, null, null)
+        ));
+        OrderRequest moreBread = new OrderRequest(List.of(
+                new OrderItemRequest(ProductType.BREAD, 2, 0, null, null)
+        ));
+
+        mockMvc.perform(post("/api/v1/orders/calculate")
+                        .header("Idempotency-Key", "controller-mismatch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bread)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/v1/orders/calculate")
+                        .header("Idempotency-Key", "controller-mismatch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(moreBread)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code", is("IDEMPOTENCY_KEY_REUSED")));
+    }
 }
@@ -0,0 +1,111 @@
+package com.online.grocery.pricing.api;
+
+import com.online.grocery.pricing.api.codec.OrderWireHttpMessageConverter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.web.servlet.function.HandlerFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.handler;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "pricing.functional-route.enabled=true")
+@AutoConfigureMockMvc
+class OrderRouteHandlerTest {
+
+    private static final String ORDER = """
+            {
+              "items": [
+                {"type": "BREAD", "quantity": 3, "daysOld": 3},
+                {"type": "VEGETABLE", "weightGrams": 200},
+                {"type": "BEER", "quantity": 6, "origin": "DUTCH"}
+              ]
+            }
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldPriceJsonOrdersOnFunctionalRoute() throws Exception {
+        mockMvc.perform(post("/api/v1/orders/calculate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ORDER))
+                .andExpect(status().isOk())
+                .andExpect(functionalHandler())
+                .andExpect(jsonPath("$.lines", hasSize(3)))
+                .andExpect(jsonPath("$.subtotal", is(8.00)))
+                .andExpect(jsonPath("$.totalDiscount", is(3.14)))
+                .andExpect(jsonPath("$.total", is(4.86)));
+    }
+
+    @Test
+    void shouldReportAllFieldErrors() throws Exception {
+        mockMvc.perform(post("/api/v1/orders/calculate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"items": [{"quantity": 0}, {"type": "BREAD", "quantity": 1, "daysOld": 7}]}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(functionalHandler())
+                .andExpect(jsonPath("$.code", is("VALIDATION_ERROR")))
+                .andExpect(jsonPath("$.details['items[0].type']", is("Product type required")))
+                .andExpect(jsonPath("$.details['items[0].quantity']", is("Quantity must be positive")))
+                .andExpect(jsonPath("$.details['items[1].daysOld']", is("Bread older than 6 days not allowed")));
+    }
+
+    @Test
+    void shouldRejectEmptyAndMalformedOrders() throws Exception {
+        mockMvc.perform(post("/api/v1/orders/calculate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details.items", is("At least one item required")));
+
+        mockMvc.perform(post("/api/v1/orders/calculate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\": ["))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details.body", is("Malformed JSON body")));
+    }
+
+    @Test
+    void shouldReturnUnprocessableEntityForBusinessErrors() throws Exception {
+        mockMvc.perform(post("/api/v1/orders/calculate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\": [{\"type\": \"BEER\", \"quantity\": 6}]}"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(functionalHandler())
+                .andExpect(jsonPath("$.code", is("INVALID_ORDER")));
+    }
+
+    @Test
+    void shouldLeaveKeyedAndBinaryRequestsToController() throws Exception {
+        mockMvc.perform(post("/api/v1/orders/calculate")
+                        .header("Idempotency-Key", "route-keyed")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ORDER))
+                .andExpect(status().isOk())
+                .andExpect(handler().handlerType(OrderController.class));
+
+        mockMvc.perform(post("/api/v1/orders/calculate")
+                        .accept(OrderWireHttpMessageConverter.MEDIA_TYPE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ORDER))
+                .andExpect(status().isOk())
+                .andExpect(handler().handlerType(OrderController.class));
+    }
+
+    private static ResultMatcher functionalHandler() {
+        return result -> assertThat(result.getHandler()).isInstanceOf(HandlerFunction.class);
+    }
+}
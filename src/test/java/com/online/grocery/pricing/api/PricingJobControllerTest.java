@@ -0,0 +1,82 @@
+package com.online.grocery.pricing.api;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PricingJobControllerTest {
+
+    private static final String ORDER = """
+            {"items": [
+              {"type": "BREAD", "quantity": 3, "daysOld": 3},
+              {"type": "VEGETABLE", "weightGrams": 200},
+              {"type": "BEER", "quantity": 6, "origin": "DUTCH"}
+            ]}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Test
+    void shouldSubmitJobAndLongPollForReceipt() throws Exception {
+        String jobId = submit(ORDER);
+
+        mockMvc.perform(asyncDispatch(poll(jobId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(4.86)));
+    }
+
+    @Test
+    void shouldReportFailedJobWithErrorCode() throws Exception {
+        String jobId = submit("""
+                {"items": [{"type": "BREAD", "quantity": 1, "daysOld": 9}]}
+                """);
+
+        mockMvc.perform(asyncDispatch(poll(jobId)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code", is("VALIDATION_ERROR")));
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownJob() throws Exception {
+        mockMvc.perform(get("/api/v1/orders/jobs/unknown"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code", is("JOB_NOT_FOUND")));
+    }
+
+    private String submit(String body) throws Exception {
+        String response = mockMvc.perform(post("/api/v1/orders/jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", startsWith("/api/v1/orders/jobs/")))
+                .andReturn().getResponse().getContentAsString();
+        return jsonMapper.readTree(response).get("jobId").asString();
+    }
+
+    private MvcResult poll(String jobId) throws Exception {
+        return mockMvc.perform(get("/api/v1/orders/jobs/" + jobId).param("waitSeconds", "5"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+}
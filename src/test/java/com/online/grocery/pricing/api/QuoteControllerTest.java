@@ -0,0 +1,79 @@
+package com.online.grocery.pricing.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.online.grocery.pricing.api.dto.OrderItemRequest;
+import com.online.grocery.pricing.api.dto.OrderRequest;
+import com.online.grocery.pricing.api.dto.QuoteVerificationRequest;
+import com.online.grocery.pricing.domain.enums.BeerOrigin;
+import com.online.grocery.pricing.domain.enums.ProductType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class QuoteControllerTest {
+
+    private static final OrderRequest ORDER = new OrderRequest(List.of(
+            new OrderItemRequest(ProductType.BREAD, 3, 3, null, null),
+            new OrderItemRequest(ProductType.VEGETABLE, null, null, 200, null),
+            new OrderItemRequest(ProductType.BEER, 6, null, null, BeerOrigin.DUTCH)
+    ));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldQuoteAndVerifyOrder() throws Exception {
+        String body = mockMvc.perform(post("/api/v1/quotes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ORDER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.receipt.lines", hasSize(3)))
+                .andExpect(jsonPath("$.receipt.total", is(4.86)))
+                .andReturn().getResponse().getContentAsString();
+        JsonNode quote = objectMapper.readTree(body);
+
+        mockMvc.perform(post("/api/v1/quotes/verify")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new QuoteVerificationRequest(ORDER, quote.get("token").asText())
+                        )))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.repriced", is(false)))
+                .andExpect(jsonPath("$.priceChanged", is(false)))
+                .andExpect(jsonPath("$.total", is(4.86)))
+                .andExpect(jsonPath("$.token", is(quote.get("token").asText())));
+    }
+
+    @Test
+    void shouldRejectInvalidToken() throws Exception {
+        mockMvc.perform(post("/api/v1/quotes/verify")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new QuoteVerificationRequest(ORDER, "forged"))))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code", is("INVALID_QUOTE")));
+    }
+
+    @Test
+    void shouldReturnBadRequestWithoutToken() throws Exception {
+        mockMvc.perform(post("/api/v1/quotes/verify")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new QuoteVerificationRequest(ORDER, null))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details.token", is("Quote token is required")));
+    }
+}
@@ -0,0 +1,152 @@
+package com.online.grocery.pricing.api.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.server.autoconfigure.ServerProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PreparedResponseCacheTest {
+
+    private static final List<String> PAYLOAD = List.of(
+            "Bread per unit", "Vegetables per 100g", "Beer (Belgian) per bottle",
+            "Beer (Dutch) per bottle", "Beer (German) per bottle"
+    );
+
+    private ServerProperties serverProperties;
+    private PreparedResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        serverProperties = new ServerProperties();
+        serverProperties.getCompression().setEnabled(true);
+        cache = new PreparedResponseCache(JsonMapper.builder().build(), serverProperties);
+    }
+
+    @Test
+    void shouldBuildOnce() {
+        AtomicInteger builds = new AtomicInteger();
+
+        PreparedResponse first = cache.get("prices", () -> count(builds));
+        PreparedResponse second = cache.get("prices", () -> count(builds));
+
+        assertThat(second).isSameAs(first);
+        assertThat(builds).hasValue(1);
+    }
+
+    @Test
+    void shouldServeGzipOnlyWhenAccepted() throws IOException {
+        ResponseEntity<byte[]> plain = cache.respond("prices", new HttpHeaders(), () -> PAYLOAD);
+        ResponseEntity<byte[]> gzip = cache.respond("prices", acceptEncoding("gzip, deflate, br"), () -> PAYLOAD);
+
+        assertThat(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzip.getHeaders().getFirst(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(gzip.getBody().length).isLessThan(plain.getBody().length);
+        assertThat(gunzip(gzip.getBody())).isEqualTo(plain.getBody());
+    }
+
+    @Test
+    void shouldTagEachVariantWithItsOwnStrongEtag() {
+        ResponseEntity<byte[]> plain = cache.respond("prices", new HttpHeaders(), () -> PAYLOAD);
+        ResponseEntity<byte[]> gzip = cache.respond("prices", acceptEncoding("gzip"), () -> PAYLOAD);
+
+        assertThat(plain.getHeaders().getETag()).matches("\"[0-9a-f]{16}\"");
+        assertThat(gzip.getHeaders().getETag()).matches("\"[0-9a-f]{16}\"");
+        assertThat(gzip.getHeaders().getETag()).isNotEqualTo(plain.getHeaders().getETag());
+    }
+
+    @Test
+    void shouldAnswerMatchingIfNoneMatchWithNotModified() {
+        String etag = cache.respond("prices", new HttpHeaders(), () -> PAYLOAD).getHeaders().getETag();
+        AtomicInteger builds = new AtomicInteger();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+
+        ResponseEntity<byte[]> response = cache.respond("prices", headers, () -> count(builds));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(response.getBody()).isNull();
+        assertThat(builds).hasValue(0);
+    }
+
+    @Test
+    void shouldServeBodyWhenEtagIsStale() {
+        String etag = cache.respond("prices", new HttpHeaders(), () -> PAYLOAD).getHeaders().getETag();
+        PreparedResponseCache restarted = new PreparedResponseCache(JsonMapper.builder().build(), serverProperties);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+
+        ResponseEntity<byte[]> response = restarted.respond("prices", headers, () -> List.of("changed"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotEqualTo(etag);
+    }
+
+    @Test
+    void shouldParseIfNoneMatch() {
+        String etag = "\"abc\"";
+
+        assertThat(PreparedResponseCache.matchesEtag(List.of("\"abc\""), etag)).isTrue();
+        assertThat(PreparedResponseCache.matchesEtag(List.of("\"x\", W/\"abc\""), etag)).isTrue();
+        assertThat(PreparedResponseCache.matchesEtag(List.of("*"), etag)).isTrue();
+        assertThat(PreparedResponseCache.matchesEtag(List.of("\"x\""), etag)).isFalse();
+        assertThat(PreparedResponseCache.matchesEtag(null, etag)).isFalse();
+    }
+
+    @Test
+    void shouldSkipGzipWhenCompressionDisabled() {
+        serverProperties.getCompression().setEnabled(false);
+
+        assertThat(cache.get("prices", () -> PAYLOAD).gzipBody()).isNull();
+    }
+
+    @Test
+    void shouldNotVaryOnEncodingWithoutGzipVariant() {
+        serverProperties.getCompression().setEnabled(false);
+
+        ResponseEntity<byte[]> response = cache.respond("prices", acceptEncoding("gzip"), () -> PAYLOAD);
+
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getHeaders().getFirst(HttpHeaders.VARY)).isNull();
+    }
+
+    @Test
+    void shouldParseAcceptEncoding() {
+        assertThat(PreparedResponseCache.acceptsGzip("gzip")).isTrue();
+        assertThat(PreparedResponseCache.acceptsGzip("deflate, GZIP;q=0.5")).isTrue();
+        assertThat(PreparedResponseCache.acceptsGzip("*")).isTrue();
+        assertThat(PreparedResponseCache.acceptsGzip("gzip;q=0, *")).isFalse();
+        assertThat(PreparedResponseCache.acceptsGzip("*;q=0, gzip")).isTrue();
+        assertThat(PreparedResponseCache.acceptsGzip("identity")).isFalse();
+        assertThat(PreparedResponseCache.acceptsGzip(null)).isFalse();
+    }
+
+    private static HttpHeaders acceptEncoding(String value) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT_ENCODING, value);
+        return headers;
+    }
+
+    private static List<String> count(AtomicInteger builds) {
+        builds.incrementAndGet();
+        return PAYLOAD;
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return input.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.online.grocery.pricing.api.codec;
+
+import com.online.grocery.pricing.api.dto.ErrorResponse;
+import com.online.grocery.pricing.api.dto.OrderItemRequest;
+import com.online.grocery.pricing.api.dto.OrderRequest;
+import com.online.grocery.pricing.api.dto.ReceiptLineResponse;
+import com.online.grocery.pricing.api.dto.ReceiptResponse;
+import com.online.grocery.pricing.domain.enums.BeerOrigin;
+import com.online.grocery.pricing.domain.enums.ProductType;
+import com.online.grocery.pricing.domain.model.Receipt;
+import com.online.grocery.pricing.domain.model.ReceiptLine;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderJsonModuleTest {
+
+    private final JsonMapper reflective = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    private final JsonMapper handWritten = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .addModule(new OrderJsonModule())
+            .build();
+
+    @Test
+    void shouldReadOrdersLikeReflectiveMapping() {
+        String json = """
+                {
+                  "items": [
+                    {"type": "BREAD", "quantity": 3, "daysOld": 2},
+                    {"type": "VEGETABLE", "weightGrams": "250", "ignored": {"nested": [1, 2]}},
+                    {"origin": "DUTCH", "quantity": 6.0, "type": "BEER"},
+                    null,
+                    {"type": null, "quantity": null}
+                  ],
+                  "extra": true
+                }
+                """;
+
+        assertThat(handWritten.readValue(json, OrderRequest.class))
+                .isEqualTo(reflective.readValue(json, OrderRequest.class));
+    }
+
+    @Test
+    void shouldReadEveryField() {
+        OrderRequest request = handWritten.readValue("""
+                {"items": [{"type": "BEER", "quantity": 6, "daysOld": 1, "weightGrams": 200, "origin": "GERMAN"}]}
+                """, OrderRequest.class);
+
+        assertThat(request.items()).containsExactly(
+                new OrderItemRequest(ProductType.BEER, 6, 1, 200, BeerOrigin.GERMAN)
+        );
+    }
+
+    @Test
+    void shouldKeepMissingItemsNull() {
+        assertThat(handWritten.readValue("{}", OrderRequest.class).items()).isNull();
+        assertThat(handWritten.readValue("{\"items\": null}", OrderRequest.class).items()).isNull();
+    }
+
+    @Test
+    void shouldRejectUnknownEnumValues() {
+        assertThatThrownBy(() -> handWritten.readValue(
+                "{\"items\": [{\"type\": \"WINE\"}]}", OrderRequest.class))
+                .isInstanceOf(JacksonException.class)
+                .hasMessageContaining("WINE");
+    }
+
+    @Test
+    void shouldRejectNonObjectItems() {
+        assertThatThrownBy(() -> handWritten.readValue("{\"items\": [\"BREAD\"]}", OrderRequest.class))
+                .isInstanceOf(JacksonException.class);
+        assertThatThrownBy(() -> handWritten.readValue("{\"items\": {\"type\": \"BREAD\"}}", OrderRequest.class))
+                .isInstanceOf(JacksonException.class);
+    }
+
+    @Test
+    void shouldWriteDomainReceiptsInResponseShape() {
+        Receipt receipt = new Receipt(
+                List.of(
+                        new ReceiptLine("3 x Bread (2 days old)", new BigDecimal("3.00"), new BigDecimal("1.00"), new BigDecimal("2.00")),
+                        new ReceiptLine("Tiny \"quoted\"", new BigDecimal("0.05"), new BigDecimal("0.0000001"), new BigDecimal("0.05")),
+                        new ReceiptLine(null, new BigDecimal("1E+3"), BigDecimal.ZERO, new BigDecimal("1E+3")),
+                        new ReceiptLine("Big", new BigDecimal("123456789012345678.90"), new BigDecimal("0.00"), new BigDecimal("1.50"))
+                ),
+                new BigDecimal("12.34"),
+                new BigDecimal("0.000001"),
+                new BigDecimal("999999999999999999")
+        );
+
+        assertThat(handWritten.writeValueAsString(receipt))
+                .isEqualTo(reflective.writeValueAsString(toResponse(receipt)));
+    }
+
+    @Test
+    void shouldWriteEmptyLinesAndMissingTotals() {
+        Receipt empty = new Receipt(List.of(), BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+        Receipt missing = new Receipt(List.of(), null, null, null);
+
+        assertThat(handWritten.writeValueAsString(empty)).isEqualTo(reflective.writeValueAsString(toResponse(empty)));
+        assertThat(handWritten.writeValueAsString(missing)).isEqualTo(reflective.writeValueAsString(toResponse(missing)));
+    }
+
+    @Test
+    void shouldKeepDecimalsNativeInBinaryFormats() {
+        CBORMapper cbor = CBORMapper.builder().addModule(new OrderJsonModule()).build();
+        Receipt receipt = new Receipt(
+                List.of(new ReceiptLine("Bread", new BigDecimal("1.00"), BigDecimal.ZERO, new BigDecimal("1.00"))),
+                new BigDecimal("1.00"),
+                BigDecimal.ZERO,
+                new BigDecimal("1.00")
+        );
+
+        byte[] encoded = cbor.writeValueAsBytes(receipt);
+
+        assertThat(encoded).isEqualTo(CBORMapper.builder().build().writeValueAsBytes(toResponse(receipt)));
+    }
+
+    @Test
+    void shouldWriteErrorsLikeReflectiveMapping() {
+        Map<String, String> details = new LinkedHashMap<>();
+        details.put("items", "At least one item required");
+        details.put("items[0].quantity", "Quantity must be positive");
+        List<ErrorResponse> errors = List.of(
+                new ErrorResponse("VALIDATION_ERROR", "Invalid request data", details),
+                new ErrorResponse("INTERNAL_ERROR", "An unexpected error occurred", null),
+                new ErrorResponse("CUSTOM", "Not a \"common\" message", Map.of()),
+                new ErrorResponse(null, null, null)
+        );
+
+        for (ErrorResponse error : errors) {
+            assertThat(handWritten.writeValueAsString(error)).isEqualTo(reflective.writeValueAsString(error));
+        }
+        CBORMapper cbor = CBORMapper.builder().addModule(new OrderJsonModule()).build();
+        assertThat(cbor.writeValueAsBytes(errors.get(0)))
+                .isEqualTo(CBORMapper.builder().build().writeValueAsBytes(errors.get(0)));
+    }
+
+    private static ReceiptResponse toResponse(Receipt receipt) {
+        return new ReceiptResponse(
+                receipt.lines().stream()
+                        .map(line -> new ReceiptLineResponse(
+                                line.description(), line.originalPrice(), line.discount(), line.finalPrice()))
+                        .toList(),
+                receipt.subtotal(),
+                receipt.totalDiscount(),
+                receipt.total()
+        );
+    }
+}
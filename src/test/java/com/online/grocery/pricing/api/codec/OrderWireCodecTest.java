@@ -0,0 +1,135 @@
+package com.online.grocery.pricing.api.codec;
+
+import com.online.grocery.pricing.api.dto.OrderItemRequest;
+import com.online.grocery.pricing.api.dto.OrderRequest;
+import com.online.grocery.pricing.api.dto.ReceiptLineResponse;
+import com.online.grocery.pricing.api.dto.ReceiptResponse;
+import com.online.grocery.pricing.domain.enums.BeerOrigin;
+import com.online.grocery.pricing.domain.enums.ProductType;
+import com.online.grocery.pricing.domain.model.Receipt;
+import com.online.grocery.pricing.domain.model.ReceiptLine;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderWireCodecTest {
+
+    private final OrderRequest order = new OrderRequest(List.of(
+            new OrderItemRequest(ProductType.BREAD, 3, 3, null, null),
+            new OrderItemRequest(ProductType.VEGETABLE, null, null, 200, null),
+            new OrderItemRequest(ProductType.BEER, 6, null, null, BeerOrigin.DUTCH)
+    ));
+
+    @Test
+    void shouldRoundTripOrder() throws IOException {
+        assertThat(decodeOrder(encodeOrder(order))).isEqualTo(order);
+    }
+
+    @Test
+    void shouldBeSmallerThanJson() throws IOException {
+        byte[] json = JsonMapper.builder().build().writeValueAsBytes(order);
+
+        assertThat(encodeOrder(order).length).isLessThan(json.length / 4);
+    }
+
+    @Test
+    void shouldPreserveMissingAndInvalidFieldsForValidation() throws IOException {
+        OrderRequest invalid = new OrderRequest(List.of(
+                new OrderItemRequest(null, -1, null, null, null),
+                new OrderItemRequest(ProductType.BREAD, 0, -5, null, null)
+        ));
+
+        assertThat(decodeOrder(encodeOrder(invalid))).isEqualTo(invalid);
+    }
+
+    @Test
+    void shouldEncodeDomainReceiptLikeResponse() throws IOException {
+        ReceiptLine line = new ReceiptLine("200g Vegetables", new BigDecimal("2.00"),
+                new BigDecimal("0.14"), new BigDecimal("1.86"));
+        Receipt receipt = new Receipt(List.of(line), new BigDecimal("2.00"),
+                new BigDecimal("0.14"), new BigDecimal("1.86"));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        OrderWireCodec.writeReceipt(receipt, output);
+
+        ReceiptResponse decoded = OrderWireCodec.readReceipt(new ByteArrayInputStream(output.toByteArray()));
+
+        assertThat(decoded.lines()).containsExactly(new ReceiptLineResponse(
+                "200g Vegetables", new BigDecimal("2.00"), new BigDecimal("0.14"), new BigDecimal("1.86")));
+        assertThat(decoded.total()).isEqualByComparingTo("1.86");
+    }
+
+    @Test
+    void shouldRejectTruncatedPayload() throws IOException {
+        byte[] encoded = encodeOrder(order);
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 1);
+
+        assertThatThrownBy(() -> decodeOrder(truncated)).isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    void shouldRejectReservedHeaderBits() {
+        // Version 1, one item, BREAD header with bit 2 set
+        assertThatThrownBy(() -> decodeOrder(new byte[]{1, 1, 0b0000_0100}))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Reserved");
+    }
+
+    @Test
+    void shouldRejectTrailingBytes() throws IOException {
+        byte[] encoded = encodeOrder(order);
+        byte[] padded = Arrays.copyOf(encoded, encoded.length + 1);
+
+        assertThatThrownBy(() -> decodeOrder(padded))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Trailing");
+    }
+
+    @Test
+    void shouldRejectTruncatedReceiptDescription() throws IOException {
+        ReceiptLine line = new ReceiptLine("200g Vegetables", new BigDecimal("2.00"),
+                new BigDecimal("0.14"), new BigDecimal("1.86"));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        OrderWireCodec.writeReceipt(new Receipt(List.of(line), new BigDecimal("2.00"),
+                new BigDecimal("0.14"), new BigDecimal("1.86")), output);
+        // Version, line count, description length, then only part of the description
+        byte[] truncated = Arrays.copyOf(output.toByteArray(), 3 + 5);
+
+        assertThatThrownBy(() -> OrderWireCodec.readReceipt(new ByteArrayInputStream(truncated)))
+                .isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    void shouldRefuseToRoundMoney() {
+        Receipt receipt = new Receipt(List.of(), new BigDecimal("1.005"), BigDecimal.ZERO, new BigDecimal("1.005"));
+
+        assertThatThrownBy(() -> OrderWireCodec.writeReceipt(receipt, new ByteArrayOutputStream()))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void shouldRejectUnknownVersion() {
+        assertThatThrownBy(() -> decodeOrder(new byte[]{9, 0}))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("version");
+    }
+
+    private static byte[] encodeOrder(OrderRequest request) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        OrderWireCodec.writeOrder(request, output);
+        return output.toByteArray();
+    }
+
+    private static OrderRequest decodeOrder(byte[] bytes) throws IOException {
+        return OrderWireCodec.readOrder(new ByteArrayInputStream(bytes));
+    }
+}
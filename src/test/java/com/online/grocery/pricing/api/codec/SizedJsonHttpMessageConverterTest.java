@@ -0,0 +1,39 @@
+package com.online.grocery.pricing.api.codec;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SizedJsonHttpMessageConverterTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    void shouldSetContentLengthBelowThreshold() throws IOException {
+        List<String> body = List.of("small");
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        new SizedJsonHttpMessageConverter(jsonMapper, 1024).write(body, MediaType.APPLICATION_JSON, output);
+
+        assertThat(output.getBodyAsBytes()).isEqualTo(jsonMapper.writeValueAsBytes(body));
+        assertThat(output.getHeaders().getContentLength()).isEqualTo(output.getBodyAsBytes().length);
+    }
+
+    @Test
+    void shouldStreamBodiesThatOutgrowThreshold() throws IOException {
+        List<String> body = Collections.nCopies(500, "line");
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        new SizedJsonHttpMessageConverter(jsonMapper, 64).write(body, MediaType.APPLICATION_JSON, output);
+
+        assertThat(output.getBodyAsBytes()).isEqualTo(jsonMapper.writeValueAsBytes(body));
+        assertThat(output.getHeaders().getContentLength()).isEqualTo(-1);
+    }
+}
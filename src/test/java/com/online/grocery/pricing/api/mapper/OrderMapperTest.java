@@ -2,6 +2,7 @@ package com.online.grocery.pricing.api.mapper;
 
 import com.online.grocery.pricing.api.dto.OrderItemRequest;
 import com.online.grocery.pricing.api.dto.OrderRequest;
+import com.online.grocery.pricing.config.PricingConfiguration;
 import com.online.grocery.pricing.domain.enums.BeerOrigin;
 import com.online.grocery.pricing.domain.enums.ProductType;
 import com.online.grocery.pricing.domain.model.BeerItem;
@@ -9,13 +10,16 @@ import com.online.grocery.pricing.domain.model.BreadItem;
 import com.online.grocery.pricing.domain.model.Order;
 import com.online.grocery.pricing.domain.model.VegetableItem;
 import com.online.grocery.pricing.exception.InvalidOrderException;
+import com.online.grocery.pricing.exception.OrderValidationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 
 class OrderMapperTest {
 
@@ -23,7 +27,7 @@ class OrderMapperTest {
 
     @BeforeEach
     void setUp() {
-        mapper = new OrderMapper();
+        mapper = new OrderMapper(new PricingConfiguration());
     }
 
     @Test
@@ -146,4 +150,65 @@ class OrderMapperTest {
                 .isInstanceOf(InvalidOrderException.class)
                 .hasMessageContaining("origin field required for product type BEER");
     }
+
+    @Test
+    void shouldCollectEveryFieldViolationInOnePass() {
+        OrderRequest request = new OrderRequest(Arrays.asList(
+                new OrderItemRequest(ProductType.BREAD, 0, 9, null, null),
+                null,
+                new OrderItemRequest(null, null, null, -5, null),
+                new OrderItemRequest(ProductType.BEER, 6, null, null, null)
+        ));
+
+        assertThatThrownBy(() -> mapper.mapToOrder(request))
+                .isInstanceOf(OrderValidationException.class)
+                .satisfies(ex -> assertThat(((OrderValidationException) ex).getErrors())
+                        .containsOnly(
+                                entry("items[0].quantity", "Quantity must be positive"),
+                                entry("items[0].daysOld", "Bread older than 6 days not allowed"),
+                                entry("items[1]", "Item required"),
+                                entry("items[2].type", "Product type required"),
+                                entry("items[2].weightGrams", "Weight must be positive")
+                        ));
+    }
+
+    @Test
+    void shouldCollectEveryMissingTypeField() {
+        OrderRequest request = new OrderRequest(List.of(
+                new OrderItemRequest(ProductType.BREAD, null, null, null, null),
+                new OrderItemRequest(ProductType.BEER, 6, null, null, null)
+        ));
+
+        assertThatThrownBy(() -> mapper.mapToOrder(request))
+                .isInstanceOf(InvalidOrderException.class)
+                .hasMessage("quantity field required for product type BREAD")
+                .satisfies(ex -> assertThat(((InvalidOrderException) ex).getDetails())
+                        .containsOnlyKeys("items[0].quantity", "items[0].daysOld", "items[1].origin"));
+    }
+
+    @Test
+    void shouldApplyConfiguredBreadAgeLimit() {
+        PricingConfiguration config = new PricingConfiguration();
+        config.getBread().setMaxAgeDays(3);
+        OrderMapper strict = new OrderMapper(config);
+        OrderRequest request = new OrderRequest(List.of(
+                new OrderItemRequest(ProductType.BREAD, 1, 4, null, null)
+        ));
+
+        assertThatThrownBy(() -> strict.mapToOrder(request))
+                .isInstanceOf(OrderValidationException.class)
+                .satisfies(ex -> assertThat(((OrderValidationException) ex).getErrors())
+                        .containsEntry("items[0].daysOld", "Bread older than 3 days not allowed"));
+
+        config.getBread().setMaxAgeDays(10);
+        assertThat(strict.mapToOrder(request).getItems()).containsExactly(new BreadItem(1, 4));
+    }
+
+    @Test
+    void shouldRejectMissingItems() {
+        assertThatThrownBy(() -> mapper.mapToOrder(new OrderRequest(null)))
+                .isInstanceOf(OrderValidationException.class)
+                .satisfies(ex -> assertThat(((OrderValidationException) ex).getErrors())
+                        .containsEntry("items", "At least one item required"));
+    }
 }
@@ -0,0 +1,120 @@
+package com.online.grocery.pricing.api.mapper;
+
+import com.online.grocery.pricing.config.PricingConfiguration;
+import com.online.grocery.pricing.domain.enums.BeerOrigin;
+import com.online.grocery.pricing.domain.enums.ProductType;
+import com.online.grocery.pricing.exception.InvalidOrderException;
+import com.online.grocery.pricing.exception.OrderValidationException;
+import com.online.grocery.pricing.pricing.context.OrderAccumulator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamingOrderReaderTest {
+
+    private StreamingOrderReader reader;
+
+    @BeforeEach
+    void setUp() {
+        PricingConfiguration config = new PricingConfiguration();
+        reader = new StreamingOrderReader(
+                JsonMapper.builder().build(),
+                new OrderMapper(config),
+                config
+        );
+    }
+
+    @Test
+    void shouldAggregateItemsWhileParsing() {
+        OrderAccumulator totals = reader.readOrder(json("""
+                {
+                  "customer": {"ignored": [1, 2, 3]},
+                  "items": [
+                    {"type": "BREAD", "quantity": 2, "daysOld": 3},
+                    {"type": "BREAD", "quantity": 1, "daysOld": 3},
+                    {"type": "VEGETABLE", "weightGrams": 120},
+                    {"type": "VEGETABLE", "weightGrams": 80},
+                    {"type": "BEER", "quantity": 6, "origin": "GERMAN"}
+                  ]
+                }
+                """));
+
+        assertThat(totals.breadQuantity(3)).isEqualTo(3);
+        assertThat(totals.maxBreadAge()).isEqualTo(3);
+        assertThat(totals.vegetableWeightGrams()).isEqualTo(200);
+        assertThat(totals.beerBottles(BeerOrigin.GERMAN)).isEqualTo(6);
+        assertThat(totals.contains(ProductType.BEER)).isTrue();
+    }
+
+    @Test
+    void shouldRejectEmptyItems() {
+        assertThatThrownBy(() -> reader.readOrder(json("{\"items\": []}")))
+                .isInstanceOf(OrderValidationException.class)
+                .satisfies(ex -> assertThat(((OrderValidationException) ex).getErrors())
+                        .containsEntry("items", "At least one item required"));
+    }
+
+    @Test
+    void shouldReportFieldViolationWithItemIndex() {
+        assertThatThrownBy(() -> reader.readOrder(json("""
+                {"items": [
+                  {"type": "BREAD", "quantity": 1, "daysOld": 0},
+                  {"type": "BREAD", "quantity": 1, "daysOld": 9}
+                ]}
+                """)))
+                .isInstanceOf(OrderValidationException.class)
+                .satisfies(ex -> assertThat(((OrderValidationException) ex).getErrors())
+                        .containsKey("items[1].daysOld"));
+    }
+
+    @Test
+    void shouldCollectViolationsAcrossAllItems() {
+        assertThatThrownBy(() -> reader.readOrder(json("""
+                {"items": [
+                  {"type": "BREAD", "quantity": 0, "daysOld": 0},
+                  {"type": "VEGETABLE", "weightGrams": 100},
+                  {"type": "VEGETABLE", "weightGrams": -5}
+                ]}
+                """)))
+                .isInstanceOf(OrderValidationException.class)
+                .satisfies(ex -> assertThat(((OrderValidationException) ex).getErrors())
+                        .containsOnlyKeys("items[0].quantity", "items[2].weightGrams"));
+    }
+
+    @Test
+    void shouldCollectMissingFieldsAcrossAllItems() {
+        assertThatThrownBy(() -> reader.readOrder(json("""
+                {"items": [
+                  {"type": "BEER", "quantity": 6},
+                  {"type": "BREAD", "quantity": 1}
+                ]}
+                """)))
+                .isInstanceOf(InvalidOrderException.class)
+                .satisfies(ex -> assertThat(((InvalidOrderException) ex).getDetails())
+                        .containsOnlyKeys("items[0].origin", "items[1].daysOld"));
+    }
+
+    @Test
+    void shouldApplyTypeSpecificRulesFromMapper() {
+        assertThatThrownBy(() -> reader.readOrder(json("{\"items\": [{\"type\": \"BEER\", \"quantity\": 6}]}")))
+                .isInstanceOf(InvalidOrderException.class)
+                .hasMessageContaining("origin field required for product type BEER");
+    }
+
+    @Test
+    void shouldRejectMalformedJson() {
+        assertThatThrownBy(() -> reader.readOrder(json("{\"items\": [{\"type\": \"MILK\"}]}")))
+                .isInstanceOf(OrderValidationException.class);
+    }
+
+    private static InputStream json(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
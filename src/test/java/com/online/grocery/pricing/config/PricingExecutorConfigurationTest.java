@@ -0,0 +1,49 @@
+package com.online.grocery.pricing.config;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PricingExecutorConfigurationTest {
+
+    @Nested
+    @SpringBootTest
+    class PlatformThreads {
+
+        @Autowired
+        @Qualifier("batchPricingExecutor")
+        private Executor executor;
+
+        @Test
+        void shouldRunBatchWorkOnPlatformThreads() {
+            Thread worker = CompletableFuture.supplyAsync(Thread::currentThread, executor).join();
+
+            assertThat(worker.isVirtual()).isFalse();
+            assertThat(worker.getName()).startsWith("batch-pricing-");
+        }
+    }
+
+    @Nested
+    @SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+    class VirtualThreads {
+
+        @Autowired
+        @Qualifier("batchPricingExecutor")
+        private Executor executor;
+
+        @Test
+        void shouldRunBatchWorkOnVirtualThreads() {
+            Thread worker = CompletableFuture.supplyAsync(Thread::currentThread, executor).join();
+
+            assertThat(worker.isVirtual()).isTrue();
+            assertThat(worker.getName()).startsWith("batch-pricing-");
+        }
+    }
+}
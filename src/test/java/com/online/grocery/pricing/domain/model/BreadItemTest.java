@@ -1,7 +1,6 @@
 package com.online.grocery.pricing.domain.model;
 
 import com.online.grocery.pricing.domain.enums.ProductType;
-import com.online.grocery.pricing.exception.InvalidOrderException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -35,13 +34,6 @@ class BreadItemTest {
                 .hasMessageContaining("Age cannot be negative");
     }
 
-    @Test
-    void shouldRejectBreadOlderThan6Days() {
-        assertThatThrownBy(() -> new BreadItem(1, 7))
-                .isInstanceOf(InvalidOrderException.class)
-                .hasMessageContaining("Bread older than 6 days");
-    }
-
     @ParameterizedTest
     @ValueSource(ints = {0, 1, 2, 3, 4, 5, 6})
     void shouldAcceptValidAges(int age) {
@@ -0,0 +1,80 @@
+package com.online.grocery.pricing.domain.model;
+
+import com.online.grocery.pricing.domain.enums.BeerOrigin;
+import com.online.grocery.pricing.domain.enums.ProductType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactOrderTest {
+
+    @Test
+    void shouldPackAndDecodeEachItemKind() {
+        CompactOrder order = new CompactOrder()
+                .addBread(3, 5)
+                .addVegetable(Integer.MAX_VALUE)
+                .addBeer(6, BeerOrigin.GERMAN);
+
+        assertThat(order.size()).isEqualTo(3);
+        long bread = order.packed(0);
+        assertThat(CompactOrder.type(bread)).isEqualTo(ProductType.BREAD);
+        assertThat(CompactOrder.amount(bread)).isEqualTo(3);
+        assertThat(CompactOrder.attribute(bread)).isEqualTo(5);
+        long vegetable = order.packed(1);
+        assertThat(CompactOrder.type(vegetable)).isEqualTo(ProductType.VEGETABLE);
+        assertThat(CompactOrder.amount(vegetable)).isEqualTo(Integer.MAX_VALUE);
+        long beer = order.packed(2);
+        assertThat(CompactOrder.type(beer)).isEqualTo(ProductType.BEER);
+        assertThat(CompactOrder.amount(beer)).isEqualTo(6);
+        assertThat(CompactOrder.origin(beer)).isEqualTo(BeerOrigin.GERMAN);
+    }
+
+    @Test
+    void shouldKeepFieldsApartAtTheirPackingBounds() {
+        CompactOrder order = new CompactOrder(1)
+                .addBread(Integer.MAX_VALUE, 0xFF_FFFF)
+                .addBeer(1, BeerOrigin.values()[BeerOrigin.values().length - 1]);
+
+        long bread = order.packed(0);
+        assertThat(CompactOrder.type(bread)).isEqualTo(ProductType.BREAD);
+        assertThat(CompactOrder.amount(bread)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(CompactOrder.attribute(bread)).isEqualTo(0xFF_FFFF);
+        assertThat(CompactOrder.type(order.packed(1))).isEqualTo(ProductType.BEER);
+        assertThat(CompactOrder.amount(order.packed(1))).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectAgeThatDoesNotFitItsField() {
+        CompactOrder order = new CompactOrder();
+
+        assertThatThrownBy(() -> order.addBread(1, 0x100_0000))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Age exceeds the supported range");
+        assertThat(order.isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldPackDomainOrderInItemOrder() {
+        Order order = new Order(List.of(
+                new BeerItem(2, BeerOrigin.DUTCH),
+                new BreadItem(1, 0)
+        ));
+
+        CompactOrder compact = CompactOrder.of(order);
+
+        assertThat(compact.size()).isEqualTo(2);
+        assertThat(CompactOrder.type(compact.packed(0))).isEqualTo(ProductType.BEER);
+        assertThat(CompactOrder.type(compact.packed(1))).isEqualTo(ProductType.BREAD);
+    }
+
+    @Test
+    void shouldRejectIndexOutsideItems() {
+        CompactOrder order = new CompactOrder().addVegetable(100);
+
+        assertThatThrownBy(() -> order.packed(1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -0,0 +1,71 @@
+package com.online.grocery.pricing.domain.model;
+
+import com.online.grocery.pricing.domain.enums.BeerOrigin;
+import com.online.grocery.pricing.domain.enums.ProductType;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderBatchTest {
+
+    @Test
+    void shouldStoreItemsInColumnsWithPerOrderOffsets() {
+        OrderBatch batch = new OrderBatch()
+                .startOrder(10).addBread(3, 2).addVegetable(250)
+                .startOrder(20)
+                .startOrder(30).addBeer(6, BeerOrigin.DUTCH);
+
+        assertThat(batch.orderCount()).isEqualTo(3);
+        assertThat(batch.itemCount()).isEqualTo(3);
+        assertThat(batch.orderIds()).containsExactly(10, 20, 30);
+        assertThat(batch.itemsStart(0)).isZero();
+        assertThat(batch.itemsEnd(0)).isEqualTo(2);
+        assertThat(batch.itemsStart(1)).isEqualTo(batch.itemsEnd(1));
+        assertThat(batch.itemsStart(2)).isEqualTo(2);
+        assertThat(batch.itemsEnd(2)).isEqualTo(3);
+
+        assertThat(batch.type(0)).isEqualTo(ProductType.BREAD);
+        assertThat(batch.quantity(0)).isEqualTo(3);
+        assertThat(batch.age(0)).isEqualTo(2);
+        assertThat(batch.type(1)).isEqualTo(ProductType.VEGETABLE);
+        assertThat(batch.weight(1)).isEqualTo(250);
+        assertThat(batch.quantity(1)).isZero();
+        assertThat(batch.type(2)).isEqualTo(ProductType.BEER);
+        assertThat(batch.origin(2)).isEqualTo(BeerOrigin.DUTCH);
+    }
+
+    @Test
+    void shouldKeepOffsetsWhenOrderAndItemColumnsGrowIndependently() {
+        OrderBatch batch = new OrderBatch(1, 1);
+        for (int order = 0; order < 20; order++) {
+            batch.startOrder(order);
+        }
+        batch.startOrder(99);
+        for (int item = 0; item < 30; item++) {
+            batch.addVegetable(item + 1);
+        }
+
+        assertThat(batch.orderCount()).isEqualTo(21);
+        assertThat(batch.itemsStart(19)).isZero();
+        assertThat(batch.itemsEnd(19)).isZero();
+        assertThat(batch.orderId(20)).isEqualTo(99);
+        assertThat(batch.itemsStart(20)).isZero();
+        assertThat(batch.itemsEnd(20)).isEqualTo(30);
+        assertThat(batch.weight(29)).isEqualTo(30);
+    }
+
+    @Test
+    void shouldRequireOrderBeforeItems() {
+        assertThatThrownBy(() -> new OrderBatch().addVegetable(100))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldRejectOrderIndexOutsideBatch() {
+        OrderBatch batch = new OrderBatch().startOrder(1);
+
+        assertThatThrownBy(() -> batch.itemsEnd(1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -65,6 +66,47 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().message()).isEqualTo("Quantity must be positive");
     }
 
+    @Test
+    void shouldHandleJobNotFound() {
+        ResponseEntity<ErrorResponse> response = handler.handleJobNotFound(
+                new PricingJobNotFoundException("abc")
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody().code()).isEqualTo("JOB_NOT_FOUND");
+        assertThat(response.getBody().message()).isEqualTo("Pricing job not found: abc");
+    }
+
+    @Test
+    void shouldHandleJobRejected() {
+        ResponseEntity<ErrorResponse> response = handler.handleJobRejected(
+                new PricingJobRejectedException("Pricing job queue is full", null)
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getBody().code()).isEqualTo("JOB_QUEUE_FULL");
+    }
+
+    @Test
+    void shouldHandleIdempotencyKeyReused() {
+        ResponseEntity<ErrorResponse> response = handler.handleIdempotencyKeyReused(
+                new IdempotencyKeyReusedException("retry-1")
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(response.getBody().code()).isEqualTo("IDEMPOTENCY_KEY_REUSED");
+    }
+
+    @Test
+    void shouldHandleIdempotencyKeyInProgress() {
+        ResponseEntity<ErrorResponse> response = handler.handleIdempotencyKeyInProgress(
+                new IdempotencyKeyInProgressException("retry-1")
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().code()).isEqualTo("IDEMPOTENCY_KEY_IN_PROGRESS");
+    }
+
     @Test
     void shouldHandleGeneralError() {
         Exception ex = new RuntimeException("Unexpected error");
@@ -75,4 +117,65 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().code()).isEqualTo("INTERNAL_ERROR");
         assertThat(response.getBody().message()).isEqualTo("An unexpected error occurred");
     }
+
+    @Test
+    void shouldHandleOrderValidationException() {
+        OrderValidationException ex = new OrderValidationException(
+                Map.of("items[0].daysOld", "Bread older than 6 days not allowed")
+        );
+
+        ResponseEntity<ErrorResponse> response = handler.handleOrderValidation(ex);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().code()).isEqualTo("VALIDATION_ERROR");
+        assertThat(response.getBody().details()).containsKey("items[0].daysOld");
+    }
+
+    @Test
+    void shouldResolveExceptionsToMatchingHandlers() {
+        assertThat(handler.resolve(new OrderValidationException(Map.of())).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(handler.resolve(new InvalidOrderException("Invalid")).getStatusCode())
+                .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(handler.resolve(new IllegalArgumentException("Invalid")).getStatusCode())
+                .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(handler.resolve(new IllegalStateException("Boom")).getStatusCode())
+                .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @Test
+    void shouldCreateRejectionsWithoutStackTraces() {
+        assertThat(OrderValidationException.emptyOrder().getStackTrace()).isEmpty();
+        assertThat(new InvalidOrderException("Invalid").getStackTrace()).isEmpty();
+        assertThat(OrderValidationException.malformedBody().getErrors())
+                .containsEntry("body", "Malformed JSON body");
+    }
+
+    @Test
+    void shouldShareCommonRejectionResponses() {
+        assertThat(handler.handleOrderValidation(OrderValidationException.emptyOrder()))
+                .isSameAs(handler.handleOrderValidation(OrderValidationException.emptyOrder()));
+        assertThat(handler.handleOrderValidation(OrderValidationException.malformedBody()))
+                .isSameAs(handler.handleOrderValidation(OrderValidationException.malformedBody()));
+        assertThat(handler.handleInvalidOrder(new InvalidOrderException("Totals too large")))
+                .isSameAs(handler.handleInvalidOrder(new InvalidOrderException("Totals too large")));
+    }
+
+    @Test
+    void shouldBuildDetailedRejectionsPerRequest() {
+        Map<String, String> details = Map.of("items[0].origin", "origin field required for product type BEER");
+
+        ResponseEntity<ErrorResponse> response = handler.handleInvalidOrder(
+                new InvalidOrderException("origin field required for product type BEER", details));
+
+        assertThat(response.getBody().details()).isEqualTo(details);
+        assertThat(response).isNotSameAs(handler.handleInvalidOrder(
+                new InvalidOrderException("origin field required for product type BEER", details)));
+    }
+
+    @Test
+    void shouldShareTheInternalErrorResponse() {
+        assertThat(handler.handleGeneralError(new IllegalStateException("a")))
+                .isSameAs(handler.handleGeneralError(new IllegalStateException("b")));
+    }
 }
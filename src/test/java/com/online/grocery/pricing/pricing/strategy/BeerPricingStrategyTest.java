@@ -6,12 +6,15 @@ import com.online.grocery.pricing.domain.enums.ProductType;
 import com.online.grocery.pricing.domain.model.BeerItem;
 import com.online.grocery.pricing.domain.model.OrderItem;
 import com.online.grocery.pricing.domain.model.ReceiptLine;
+import com.online.grocery.pricing.pricing.context.LineTotals;
+import com.online.grocery.pricing.pricing.context.OrderAccumulator;
 import com.online.grocery.pricing.pricing.discount.BeerDiscountRule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -49,7 +52,7 @@ class BeerPricingStrategyTest {
         when(discountRule.isApplicable(any())).thenReturn(false);
 
         List<OrderItem> items = List.of(new BeerItem(3, BeerOrigin.BELGIAN));
-        List<ReceiptLine> result = strategy.calculatePrice(items);
+        List<ReceiptLine> result = strategy.calculatePrice(totalsOf(items));
 
         assertThat(result).hasSize(1);
         ReceiptLine line = result.get(0);
@@ -65,7 +68,7 @@ class BeerPricingStrategyTest {
         when(discountRule.calculateDiscount(any())).thenReturn(new BigDecimal("3.00"));
 
         List<OrderItem> items = List.of(new BeerItem(6, BeerOrigin.BELGIAN));
-        List<ReceiptLine> result = strategy.calculatePrice(items);
+        List<ReceiptLine> result = strategy.calculatePrice(totalsOf(items));
 
         assertThat(result).hasSize(1);
         ReceiptLine line = result.get(0);
@@ -81,7 +84,7 @@ class BeerPricingStrategyTest {
         when(discountRule.calculateDiscount(any())).thenReturn(new BigDecimal("2.00"));
 
         List<OrderItem> items = List.of(new BeerItem(7, BeerOrigin.DUTCH));
-        List<ReceiptLine> result = strategy.calculatePrice(items);
+        List<ReceiptLine> result = strategy.calculatePrice(totalsOf(items));
 
         assertThat(result).hasSize(1);
         ReceiptLine line = result.get(0);
@@ -98,7 +101,7 @@ class BeerPricingStrategyTest {
                 new BeerItem(4, BeerOrigin.DUTCH),
                 new BeerItem(2, BeerOrigin.BELGIAN)
         );
-        List<ReceiptLine> result = strategy.calculatePrice(items);
+        List<ReceiptLine> result = strategy.calculatePrice(totalsOf(items));
 
         assertThat(result).hasSize(2);
 
@@ -120,7 +123,7 @@ class BeerPricingStrategyTest {
         when(discountRule.isApplicable(any())).thenReturn(false);
 
         List<OrderItem> items = List.of(new BeerItem(5, BeerOrigin.GERMAN));
-        List<ReceiptLine> result = strategy.calculatePrice(items);
+        List<ReceiptLine> result = strategy.calculatePrice(totalsOf(items));
 
         assertThat(result).hasSize(1);
         ReceiptLine line = result.get(0);
@@ -145,7 +148,7 @@ class BeerPricingStrategyTest {
         );
 
         List<OrderItem> items = List.of(new BeerItem(6, BeerOrigin.BELGIAN));
-        List<ReceiptLine> result = strategyWithMultipleRules.calculatePrice(items);
+        List<ReceiptLine> result = strategyWithMultipleRules.calculatePrice(totalsOf(items));
 
         assertThat(result.get(0).discount()).isEqualByComparingTo("1.50");
     }
@@ -156,7 +159,7 @@ class BeerPricingStrategyTest {
         when(discountRule.calculateDiscount(any())).thenReturn(new BigDecimal("6.00"));
 
         List<OrderItem> items = List.of(new BeerItem(13, BeerOrigin.BELGIAN));
-        List<ReceiptLine> result = strategy.calculatePrice(items);
+        List<ReceiptLine> result = strategy.calculatePrice(totalsOf(items));
 
         assertThat(result).hasSize(1);
         ReceiptLine line = result.get(0);
@@ -169,9 +172,59 @@ class BeerPricingStrategyTest {
         when(discountRule.isApplicable(any())).thenReturn(false);
 
         List<OrderItem> items = List.of(new BeerItem(1, BeerOrigin.BELGIAN));
-        List<ReceiptLine> result = strategy.calculatePrice(items);
+        List<ReceiptLine> result = strategy.calculatePrice(totalsOf(items));
 
         assertThat(result.get(0).originalPrice().scale()).isEqualTo(2);
         assertThat(result.get(0).finalPrice().scale()).isEqualTo(2);
     }
+
+    @Test
+    void shouldPriceSplitItemsLikeMergedItems() {
+        when(discountRule.isApplicable(any())).thenReturn(false);
+
+        List<OrderItem> split = List.of(
+                new BeerItem(3, BeerOrigin.BELGIAN),
+                new BeerItem(4, BeerOrigin.DUTCH),
+                new BeerItem(9, BeerOrigin.BELGIAN)
+        );
+        List<OrderItem> merged = List.of(
+                new BeerItem(12, BeerOrigin.BELGIAN),
+                new BeerItem(4, BeerOrigin.DUTCH)
+        );
+
+        assertThat(strategy.calculatePrice(totalsOf(split)))
+                .containsExactlyElementsOf(strategy.calculatePrice(totalsOf(merged)));
+    }
+
+    @Test
+    void shouldAddTotalsMatchingReceiptLines() {
+        when(discountRule.isApplicable(any())).thenReturn(true);
+        when(discountRule.calculateDiscount(any())).thenReturn(new BigDecimal("1.005"));
+
+        OrderAccumulator totals = totalsOf(List.of(
+                new BeerItem(13, BeerOrigin.BELGIAN),
+                new BeerItem(4, BeerOrigin.DUTCH)
+        ));
+        LineTotals sums = new LineTotals();
+        strategy.addTotals(totals, sums);
+
+        List<ReceiptLine> lines = strategy.calculatePrice(totals);
+        assertThat(sums.subtotalCents()).isEqualTo(cents(lines, ReceiptLine::originalPrice));
+        assertThat(sums.discountCents()).isEqualTo(cents(lines, ReceiptLine::discount));
+        assertThat(sums.discountCents()).isEqualTo(202);
+    }
+
+    private static long cents(List<ReceiptLine> lines, Function<ReceiptLine, BigDecimal> amount) {
+        return lines.stream()
+                .map(amount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add)
+                .movePointRight(2)
+                .longValueExact();
+    }
+
+    private static OrderAccumulator totalsOf(List<OrderItem> items) {
+        OrderAccumulator totals = new OrderAccumulator(6);
+        items.forEach(totals::add);
+        return totals;
+    }
 }
@@ -5,6 +5,7 @@ import com.online.grocery.pricing.domain.enums.ProductType;
 import com.online.grocery.pricing.domain.model.BreadItem;
 import com.online.grocery.pricing.domain.model.OrderItem;
 import com.online.grocery.pricing.domain.model.ReceiptLine;
+import com.online.grocery.pricing.pricing.context.OrderAccumulator;
 import com.online.grocery.pricing.pricing.discount.BreadDiscountRule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -42,7 +43,7 @@ class BreadPricingStrategyTest {
         when(discountRule.isApplicable(any())).thenReturn(false);
 
         List<OrderItem> items = List.of(new BreadItem(2, 0));
-        List<ReceiptLine> result = strategy.calculatePrice(items);
+        List<ReceiptLine> result = strategy.calculatePrice(totalsOf(items));
 
         assertThat(result).hasSize(1);
         ReceiptLine line = result.get(0);
@@ -58,7 +59,7 @@ class BreadPricingStrategyTest {
         when(discountRule.calculateDiscount(any())).thenReturn(new BigDecimal("1.00"));
 
         List<OrderItem> items = List.of(new BreadItem(4, 3));
-        List<ReceiptLine> result = strategy.calculatePrice(items);
+        List<ReceiptLine> result = strategy.calculatePrice(totalsOf(items));
 
         assertThat(result).hasSize(1);
         ReceiptLine line = result.get(0);
@@ -77,7 +78,7 @@ class BreadPricingStrategyTest {
                 new BreadItem(3, 3),
                 new BreadItem(1, 0)
         );
-        List<ReceiptLine> result = strategy.calculatePrice(items);
+        List<ReceiptLine> result = strategy.calculatePrice(totalsOf(items));
 
         assertThat(result).hasSize(2);
 
@@ -111,7 +112,7 @@ class BreadPricingStrategyTest {
         );
 
         List<OrderItem> items = List.of(new BreadItem(2, 4));
-        List<ReceiptLine> result = strategyWithMultipleRules.calculatePrice(items);
+        List<ReceiptLine> result = strategyWithMultipleRules.calculatePrice(totalsOf(items));
 
         assertThat(result.get(0).discount()).isEqualByComparingTo("0.80");
     }
@@ -121,7 +122,7 @@ class BreadPricingStrategyTest {
         when(discountRule.isApplicable(any())).thenReturn(false);
 
         List<OrderItem> items = List.of(new BreadItem(1, 0));
-        List<ReceiptLine> result = strategy.calculatePrice(items);
+        List<ReceiptLine> result = strategy.calculatePrice(totalsOf(items));
 
         assertThat(result).hasSize(1);
     }
@@ -136,8 +137,32 @@ class BreadPricingStrategyTest {
         );
 
         List<OrderItem> items = List.of(new BreadItem(1, 0));
-        List<ReceiptLine> result = strategyWithPrecision.calculatePrice(items);
+        List<ReceiptLine> result = strategyWithPrecision.calculatePrice(totalsOf(items));
 
         assertThat(result.get(0).originalPrice().scale()).isEqualTo(2);
     }
+
+    @Test
+    void shouldPriceSplitItemsLikeMergedItems() {
+        when(discountRule.isApplicable(any())).thenReturn(false);
+
+        List<OrderItem> split = List.of(
+                new BreadItem(2, 0),
+                new BreadItem(3, 3),
+                new BreadItem(1, 0)
+        );
+        List<OrderItem> merged = List.of(
+                new BreadItem(3, 0),
+                new BreadItem(3, 3)
+        );
+
+        assertThat(strategy.calculatePrice(totalsOf(split)))
+                .containsExactlyElementsOf(strategy.calculatePrice(totalsOf(merged)));
+    }
+
+    private static OrderAccumulator totalsOf(List<OrderItem> items) {
+        OrderAccumulator totals = new OrderAccumulator(6);
+        items.forEach(totals::add);
+        return totals;
+    }
 }
@@ -4,6 +4,7 @@ import com.online.grocery.pricing.config.PricingConfiguration;
 import com.online.grocery.pricing.domain.enums.ProductType;
 import com.online.grocery.pricing.domain.model.OrderItem;
 import com.online.grocery.pricing.domain.model.ReceiptLine;
+import com.online.grocery.pricing.pricing.context.OrderAccumulator;
 import com.online.grocery.pricing.domain.model.VegetableItem;
 import com.online.grocery.pricing.pricing.discount.VegetableDiscountRule;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,7 +44,7 @@ class VegetablePricingStrategyTest {
         when(discountRule.calculateDiscount(any())).thenReturn(new BigDecimal("0.025"));
 
         List<OrderItem> items = List.of(new VegetableItem(50));
-        List<ReceiptLine> result = strategy.calculatePrice(items);
+        List<ReceiptLine> result = strategy.calculatePrice(totalsOf(items));
 
         assertThat(result).hasSize(1);
         ReceiptLine line = result.get(0);
@@ -57,7 +58,7 @@ class VegetablePricingStrategyTest {
         when(discountRule.calculateDiscount(any())).thenReturn(new BigDecimal("0.21"));
 
         List<OrderItem> items = List.of(new VegetableItem(300));
-        List<ReceiptLine> result = strategy.calculatePrice(items);
+        List<ReceiptLine> result = strategy.calculatePrice(totalsOf(items));
 
         assertThat(result).hasSize(1);
         ReceiptLine line = result.get(0);
@@ -71,7 +72,7 @@ class VegetablePricingStrategyTest {
         when(discountRule.calculateDiscount(any())).thenReturn(new BigDecimal("0.50"));
 
         List<OrderItem> items = List.of(new VegetableItem(500));
-        List<ReceiptLine> result = strategy.calculatePrice(items);
+        List<ReceiptLine> result = strategy.calculatePrice(totalsOf(items));
 
         assertThat(result).hasSize(1);
         ReceiptLine line = result.get(0);
@@ -88,7 +89,7 @@ class VegetablePricingStrategyTest {
                 new VegetableItem(200),
                 new VegetableItem(150)
         );
-        List<ReceiptLine> result = strategy.calculatePrice(items);
+        List<ReceiptLine> result = strategy.calculatePrice(totalsOf(items));
 
         assertThat(result).hasSize(1);
         ReceiptLine line = result.get(0);
@@ -104,7 +105,7 @@ class VegetablePricingStrategyTest {
         when(discountRule.calculateDiscount(any())).thenReturn(new BigDecimal("0.50"));
 
         List<OrderItem> items = List.of(new VegetableItem(500));
-        List<ReceiptLine> result = strategy.calculatePrice(items);
+        List<ReceiptLine> result = strategy.calculatePrice(totalsOf(items));
 
         ReceiptLine line = result.get(0);
         assertThat(line.originalPrice()).isEqualByComparingTo("5.00");
@@ -129,7 +130,7 @@ class VegetablePricingStrategyTest {
         );
 
         List<OrderItem> items = List.of(new VegetableItem(200));
-        List<ReceiptLine> result = strategyWithMultipleRules.calculatePrice(items);
+        List<ReceiptLine> result = strategyWithMultipleRules.calculatePrice(totalsOf(items));
 
         assertThat(result.get(0).discount()).isEqualByComparingTo("0.30");
     }
@@ -140,7 +141,7 @@ class VegetablePricingStrategyTest {
         when(discountRule.isApplicable(any())).thenReturn(false);
 
         List<OrderItem> items = List.of(new VegetableItem(33));
-        List<ReceiptLine> result = strategy.calculatePrice(items);
+        List<ReceiptLine> result = strategy.calculatePrice(totalsOf(items));
 
         assertThat(result.get(0).originalPrice().scale()).isEqualTo(2);
         assertThat(result.get(0).finalPrice().scale()).isEqualTo(2);
@@ -155,8 +156,28 @@ class VegetablePricingStrategyTest {
                 new VegetableItem(100),
                 new VegetableItem(100)
         );
-        List<ReceiptLine> result = strategy.calculatePrice(items);
+        List<ReceiptLine> result = strategy.calculatePrice(totalsOf(items));
 
         assertThat(result).hasSize(1);
     }
+
+    @Test
+    void shouldPriceSplitItemsLikeMergedItems() {
+        when(discountRule.isApplicable(any())).thenReturn(false);
+
+        List<OrderItem> split = List.of(
+                new VegetableItem(100),
+                new VegetableItem(250)
+        );
+        List<OrderItem> merged = List.of(new VegetableItem(350));
+
+        assertThat(strategy.calculatePrice(totalsOf(split)))
+                .containsExactlyElementsOf(strategy.calculatePrice(totalsOf(merged)));
+    }
+
+    private static OrderAccumulator totalsOf(List<OrderItem> items) {
+        OrderAccumulator totals = new OrderAccumulator(6);
+        items.forEach(totals::add);
+        return totals;
+    }
 }
@@ -0,0 +1,77 @@
+package com.online.grocery.pricing.service;
+
+import com.online.grocery.pricing.api.dto.BatchOrderResultResponse;
+import com.online.grocery.pricing.api.dto.OrderItemRequest;
+import com.online.grocery.pricing.api.dto.OrderRequest;
+import com.online.grocery.pricing.config.PricingConfiguration;
+import com.online.grocery.pricing.domain.enums.ProductType;
+import com.online.grocery.pricing.exception.OrderValidationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class BatchPricingServiceTest {
+
+    @Autowired
+    private BatchPricingService batchPricingService;
+
+    @Autowired
+    private PricingConfiguration config;
+
+    @Test
+    void shouldReturnResultsInInputOrder() {
+        List<OrderRequest> requests = IntStream.rangeClosed(1, 50)
+                .mapToObj(qty -> new OrderRequest(List.of(
+                        new OrderItemRequest(ProductType.BREAD, qty, 0, null, null)
+                )))
+                .toList();
+
+        List<BatchOrderResultResponse> results = batchPricingService.calculateBatch(requests);
+
+        assertThat(results).hasSize(50);
+        for (int i = 0; i < results.size(); i++) {
+            BatchOrderResultResponse result = results.get(i);
+            assertThat(result.index()).isEqualTo(i);
+            assertThat(result.status()).isEqualTo(200);
+            assertThat(result.receipt().total()).isEqualByComparingTo(String.valueOf(i + 1));
+        }
+    }
+
+    @Test
+    void shouldReportFailuresPerOrder() {
+        List<OrderRequest> requests = List.of(
+                new OrderRequest(List.of(new OrderItemRequest(ProductType.BREAD, 1, 0, null, null))),
+                new OrderRequest(List.of(new OrderItemRequest(ProductType.VEGETABLE, null, null, null, null))),
+                new OrderRequest(List.of(new OrderItemRequest(ProductType.BREAD, 1, 7, null, null)))
+        );
+
+        List<BatchOrderResultResponse> results = batchPricingService.calculateBatch(requests);
+
+        assertThat(results.get(0).status()).isEqualTo(200);
+        assertThat(results.get(0).error()).isNull();
+        assertThat(results.get(1).status()).isEqualTo(422);
+        assertThat(results.get(1).receipt()).isNull();
+        assertThat(results.get(1).error().message()).contains("weightGrams");
+        assertThat(results.get(2).status()).isEqualTo(400);
+        assertThat(results.get(2).error().details()).containsKey("items[0].daysOld");
+    }
+
+    @Test
+    void shouldRejectBatchLargerThanMaximum() {
+        OrderRequest request = new OrderRequest(List.of(
+                new OrderItemRequest(ProductType.BREAD, 1, 0, null, null)
+        ));
+        List<OrderRequest> requests = Collections.nCopies(config.getBatch().getMaxOrders() + 1, request);
+
+        assertThatThrownBy(() -> batchPricingService.calculateBatch(requests))
+                .isInstanceOf(OrderValidationException.class);
+    }
+}
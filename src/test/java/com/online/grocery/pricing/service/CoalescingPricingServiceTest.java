@@ -0,0 +1,160 @@
+package com.online.grocery.pricing.service;
+
+import com.online.grocery.pricing.api.dto.CoalescingStatsResponse;
+import com.online.grocery.pricing.config.PricingConfiguration;
+import com.online.grocery.pricing.domain.enums.BeerOrigin;
+import com.online.grocery.pricing.domain.model.BeerItem;
+import com.online.grocery.pricing.domain.model.BreadItem;
+import com.online.grocery.pricing.domain.model.Order;
+import com.online.grocery.pricing.domain.model.Receipt;
+import com.online.grocery.pricing.domain.model.VegetableItem;
+import com.online.grocery.pricing.exception.InvalidOrderException;
+import com.online.grocery.pricing.pricing.context.OrderAccumulator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CoalescingPricingServiceTest {
+
+    private static final int CALLERS = 4;
+
+    private final OrderPricingService pricingService = mock(OrderPricingService.class);
+    private final ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+    private PricingConfiguration config;
+    private CoalescingPricingService service;
+
+    @BeforeEach
+    void setUp() {
+        config = new PricingConfiguration();
+        config.getCoalescing().setEnabled(true);
+        service = new CoalescingPricingService(pricingService, config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void shouldShareOneRunBetweenIdenticalConcurrentOrders() throws Exception {
+        Receipt receipt = new Receipt(List.of(), null, null, null);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        when(pricingService.calculateReceipt(any(OrderAccumulator.class))).thenAnswer(invocation -> {
+            runs.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return receipt;
+        });
+
+        List<Future<Receipt>> results = submitAll(() -> service.calculateReceipt(order()));
+        awaitWaiters(CALLERS - 1);
+        release.countDown();
+
+        for (Future<Receipt> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(receipt);
+        }
+        assertThat(runs).hasValue(1);
+        CoalescingStatsResponse stats = service.stats();
+        assertThat(stats.requests()).isEqualTo(CALLERS);
+        assertThat(stats.coalesced()).isEqualTo(CALLERS - 1);
+        assertThat(stats.coalescingRatio()).isEqualTo(0.75);
+    }
+
+    @Test
+    void shouldShareFailuresWithWaiters() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        InvalidOrderException failure = new InvalidOrderException("Beer unavailable");
+        when(pricingService.calculateReceipt(any(OrderAccumulator.class))).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw failure;
+        });
+
+        List<Future<Receipt>> results = submitAll(() -> service.calculateReceipt(order()));
+        awaitWaiters(CALLERS - 1);
+        release.countDown();
+
+        for (Future<Receipt> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        }
+    }
+
+    @Test
+    void shouldPriceAgainOnceTheRunHasFinished() {
+        when(pricingService.calculateReceipt(any(OrderAccumulator.class)))
+                .thenAnswer(invocation -> new Receipt(List.of(), null, null, null));
+
+        Receipt first = service.calculateReceipt(order());
+        Receipt second = service.calculateReceipt(order());
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(service.stats().coalesced()).isZero();
+    }
+
+    @Test
+    void shouldKeyOrdersByTotalsNotItemLayout() {
+        OrderAccumulator split = new OrderAccumulator(6);
+        split.add(new BreadItem(1, 2));
+        split.add(new BeerItem(6, BeerOrigin.DUTCH));
+        split.add(new BreadItem(2, 2));
+        OrderAccumulator merged = new OrderAccumulator(6);
+        merged.add(new BeerItem(6, BeerOrigin.DUTCH));
+        merged.add(new BreadItem(3, 2));
+        OrderAccumulator different = new OrderAccumulator(6);
+        different.add(new BreadItem(3, 1));
+        different.add(new BeerItem(6, BeerOrigin.DUTCH));
+
+        assertThat(split.toKey()).isEqualTo(merged.toKey()).hasSameHashCodeAs(merged.toKey());
+        assertThat(split.toKey()).isNotEqualTo(different.toKey());
+    }
+
+    @Test
+    void shouldBypassWhenDisabled() {
+        config.getCoalescing().setEnabled(false);
+        Order order = order();
+
+        service.calculateReceipt(order);
+
+        verify(pricingService).calculateReceipt(order);
+        verify(pricingService, never()).calculateReceipt(any(OrderAccumulator.class));
+        assertThat(service.stats().requests()).isZero();
+    }
+
+    private List<Future<Receipt>> submitAll(Callable<Receipt> call) {
+        return IntStream.range(0, CALLERS)
+                .mapToObj(i -> callers.submit(call))
+                .toList();
+    }
+
+    private void awaitWaiters(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (service.stats().coalesced() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static Order order() {
+        return new Order(List.of(
+                new BreadItem(3, 2),
+                new VegetableItem(200),
+                new BeerItem(6, BeerOrigin.BELGIAN)
+        ));
+    }
+}
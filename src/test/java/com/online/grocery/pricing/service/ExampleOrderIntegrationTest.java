@@ -56,6 +56,24 @@ class ExampleOrderIntegrationTest {
         assertThat(receipt.total()).isEqualByComparingTo("4.86");
     }
 
+    @Test
+    void shouldPriceBatchOrdersLikeSingleOrders() {
+        OrderBatch batch = new OrderBatch()
+                .startOrder(1).addBread(3, 3).addVegetable(200).addBeer(6, BeerOrigin.DUTCH)
+                .startOrder(2).addBread(2, 6).addBeer(13, BeerOrigin.BELGIAN);
+
+        OrderBatchTotals totals = orderPricingService.calculateTotals(batch);
+
+        assertThat(totals.total(0)).isEqualByComparingTo("4.86");
+        Receipt second = orderPricingService.calculateReceipt(new Order(List.of(
+                new BreadItem(2, 6),
+                new BeerItem(13, BeerOrigin.BELGIAN)
+        )));
+        assertThat(totals.subtotal(1)).isEqualByComparingTo(second.subtotal());
+        assertThat(totals.totalDiscount(1)).isEqualByComparingTo(second.totalDiscount());
+        assertThat(totals.total(1)).isEqualByComparingTo(second.total());
+    }
+
     @Test
     void shouldCalculateBreadDiscountFor3DaysOld() {
         // Buy 1 take 2: For 3 breads, 1 is free
@@ -0,0 +1,185 @@
+package com.online.grocery.pricing.service;
+
+import com.online.grocery.pricing.api.dto.OrderItemRequest;
+import com.online.grocery.pricing.api.dto.OrderRequest;
+import com.online.grocery.pricing.config.PricingConfiguration;
+import com.online.grocery.pricing.domain.enums.ProductType;
+import com.online.grocery.pricing.domain.model.Receipt;
+import com.online.grocery.pricing.domain.model.ReceiptLine;
+import com.online.grocery.pricing.exception.IdempotencyKeyInProgressException;
+import com.online.grocery.pricing.exception.IdempotencyKeyReusedException;
+import com.online.grocery.pricing.exception.InvalidOrderException;
+import com.online.grocery.pricing.exception.OrderValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyServiceTest {
+
+    private static final OrderRequest BREAD = order(1);
+    private static final OrderRequest MORE_BREAD = order(2);
+
+    private final AtomicInteger pricings = new AtomicInteger();
+    private PricingConfiguration config;
+    private IdempotencyService service;
+
+    @BeforeEach
+    void setUp() {
+        config = new PricingConfiguration();
+        service = new IdempotencyService(JsonMapper.builder().build(), config);
+    }
+
+    @Test
+    void shouldReplayStoredReceiptWithoutPricingAgain() {
+        Receipt first = service.execute("key-1", BREAD, this::price);
+        Receipt retry = service.execute("key-1", order(1), this::price);
+
+        assertThat(retry).isSameAs(first);
+        assertThat(pricings).hasValue(1);
+        assertThat(service.stats().hits()).isEqualTo(1);
+        assertThat(service.stats().misses()).isEqualTo(1);
+        assertThat(service.stats().hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void shouldRejectKeyReusedWithDifferentBody() {
+        service.execute("key-1", BREAD, this::price);
+
+        assertThatThrownBy(() -> service.execute("key-1", MORE_BREAD, this::price))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+        assertThat(pricings).hasValue(1);
+    }
+
+    @Test
+    void shouldNotStoreFailures() {
+        assertThatThrownBy(() -> service.execute("key-1", BREAD, () -> {
+            throw new InvalidOrderException("Bread unavailable");
+        })).isInstanceOf(InvalidOrderException.class);
+
+        service.execute("key-1", BREAD, this::price);
+
+        assertThat(pricings).hasValue(1);
+        assertThat(service.stats().entries()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReleaseWaitersAndForgetKeyWhenPricingFailsWithAnError() throws Exception {
+        CountDownLatch pricing = new CountDownLatch(1);
+        CountDownLatch fail = new CountDownLatch(1);
+        CompletableFuture<Receipt> first = CompletableFuture.supplyAsync(() ->
+                service.execute("key-1", BREAD, () -> {
+                    pricing.countDown();
+                    await(fail);
+                    throw new StackOverflowError();
+                }));
+        assertThat(pricing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Receipt> retry = CompletableFuture.supplyAsync(() ->
+                service.execute("key-1", BREAD, this::price));
+        while (service.stats().hits() == 0) {
+            Thread.onSpinWait();
+        }
+        fail.countDown();
+
+        assertThatThrownBy(first::join).hasCauseInstanceOf(StackOverflowError.class);
+        assertThatThrownBy(() -> retry.get(5, TimeUnit.SECONDS)).hasRootCauseInstanceOf(StackOverflowError.class);
+        assertThat(service.execute("key-1", BREAD, this::price)).isNotNull();
+        assertThat(pricings).hasValue(1);
+    }
+
+    @Test
+    void shouldStopWaitingForFirstRequestAfterMaxWait() throws Exception {
+        config.getIdempotency().setMaxWait(Duration.ofMillis(50));
+        CountDownLatch pricing = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        CompletableFuture<Receipt> first = CompletableFuture.supplyAsync(() ->
+                service.execute("key-1", BREAD, () -> {
+                    pricing.countDown();
+                    await(finish);
+                    return price();
+                }));
+        assertThat(pricing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> service.execute("key-1", BREAD, this::price))
+                .isInstanceOf(IdempotencyKeyInProgressException.class);
+
+        finish.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    void shouldExpireEntriesAfterTtl() throws Exception {
+        config.getIdempotency().setTtl(Duration.ofMillis(1));
+        service.execute("key-1", BREAD, this::price);
+        Thread.sleep(10);
+
+        service.execute("key-1", MORE_BREAD, this::price);
+
+        assertThat(pricings).hasValue(2);
+    }
+
+    @Test
+    void shouldEvictOldestEntriesBeyondMaxEntries() {
+        config.getIdempotency().setMaxEntries(2);
+
+        service.execute("key-1", BREAD, this::price);
+        service.execute("key-2", BREAD, this::price);
+        service.execute("key-3", BREAD, this::price);
+        service.execute("key-1", MORE_BREAD, this::price);
+
+        assertThat(pricings).hasValue(4);
+        assertThat(service.stats().entries()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEvictOldestEntriesBeyondMaxBytes() {
+        service.execute("key-1", BREAD, this::price);
+        long entryBytes = service.stats().bytes();
+        config.getIdempotency().setMaxBytes(entryBytes * 2);
+
+        service.execute("key-2", BREAD, this::price);
+        service.execute("key-3", BREAD, this::price);
+
+        assertThat(service.stats().entries()).isEqualTo(2);
+        assertThat(service.stats().bytes()).isLessThanOrEqualTo(entryBytes * 2);
+    }
+
+    @Test
+    void shouldRejectBlankOrOversizedKeys() {
+        config.getIdempotency().setMaxKeyLength(8);
+
+        assertThatThrownBy(() -> service.execute(" ", BREAD, this::price))
+                .isInstanceOf(OrderValidationException.class);
+        assertThatThrownBy(() -> service.execute("123456789", BREAD, this::price))
+                .isInstanceOf(OrderValidationException.class);
+    }
+
+    private Receipt price() {
+        pricings.incrementAndGet();
+        ReceiptLine line = new ReceiptLine("1 x Bread", BigDecimal.ONE, BigDecimal.ZERO, BigDecimal.ONE);
+        return new Receipt(List.of(line), BigDecimal.ONE, BigDecimal.ZERO, BigDecimal.ONE);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static OrderRequest order(int quantity) {
+        return new OrderRequest(List.of(new OrderItemRequest(ProductType.BREAD, quantity, 0, null, null)));
+    }
+}
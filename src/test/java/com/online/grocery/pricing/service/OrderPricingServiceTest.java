@@ -1,13 +1,18 @@
 package com.online.grocery.pricing.service;
 
+import com.online.grocery.pricing.config.PricingConfiguration;
 import com.online.grocery.pricing.domain.enums.BeerOrigin;
 import com.online.grocery.pricing.domain.enums.ProductType;
 import com.online.grocery.pricing.domain.model.*;
+import com.online.grocery.pricing.exception.OrderValidationException;
+import com.online.grocery.pricing.pricing.context.LineTotals;
+import com.online.grocery.pricing.pricing.context.OrderAccumulator;
 import com.online.grocery.pricing.pricing.strategy.PricingStrategy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -31,7 +36,10 @@ class OrderPricingServiceTest {
         when(vegetableStrategy.getProductType()).thenReturn(ProductType.VEGETABLE);
         when(beerStrategy.getProductType()).thenReturn(ProductType.BEER);
 
-        service = new OrderPricingService(List.of(breadStrategy, vegetableStrategy, beerStrategy));
+        service = new OrderPricingService(
+                List.of(breadStrategy, vegetableStrategy, beerStrategy),
+                new PricingConfiguration()
+        );
     }
 
     @Test
@@ -41,13 +49,13 @@ class OrderPricingServiceTest {
         BeerItem beer = new BeerItem(6, BeerOrigin.DUTCH);
         Order order = new Order(List.of(bread, veg, beer));
 
-        when(breadStrategy.calculatePrice(anyList())).thenReturn(List.of(
+        when(breadStrategy.calculatePrice(any(OrderAccumulator.class))).thenReturn(List.of(
                 new ReceiptLine("3 x Bread (3 days old)", new BigDecimal("3.00"), new BigDecimal("1.00"), new BigDecimal("2.00"))
         ));
-        when(vegetableStrategy.calculatePrice(anyList())).thenReturn(List.of(
+        when(vegetableStrategy.calculatePrice(any(OrderAccumulator.class))).thenReturn(List.of(
                 new ReceiptLine("200g Vegetables", new BigDecimal("2.00"), new BigDecimal("0.14"), new BigDecimal("1.86"))
         ));
-        when(beerStrategy.calculatePrice(anyList())).thenReturn(List.of(
+        when(beerStrategy.calculatePrice(any(OrderAccumulator.class))).thenReturn(List.of(
                 new ReceiptLine("6 x DUTCH Beer (1 packs + 0 singles)", new BigDecimal("3.00"), new BigDecimal("2.00"), new BigDecimal("1.00"))
         ));
 
@@ -64,15 +72,15 @@ class OrderPricingServiceTest {
         BreadItem bread = new BreadItem(1, 0);
         Order order = new Order(List.of(bread));
 
-        when(breadStrategy.calculatePrice(anyList())).thenReturn(List.of(
+        when(breadStrategy.calculatePrice(any(OrderAccumulator.class))).thenReturn(List.of(
                 new ReceiptLine("1 x Bread", new BigDecimal("1.00"), BigDecimal.ZERO, new BigDecimal("1.00"))
         ));
 
         service.calculateReceipt(order);
 
-        verify(breadStrategy).calculatePrice(anyList());
-        verify(vegetableStrategy, never()).calculatePrice(anyList());
-        verify(beerStrategy, never()).calculatePrice(anyList());
+        verify(breadStrategy).calculatePrice(any(OrderAccumulator.class));
+        verify(vegetableStrategy, never()).calculatePrice(any(OrderAccumulator.class));
+        verify(beerStrategy, never()).calculatePrice(any(OrderAccumulator.class));
     }
 
     @Test
@@ -81,7 +89,7 @@ class OrderPricingServiceTest {
         VegetableItem veg2 = new VegetableItem(200);
         Order order = new Order(List.of(veg1, veg2));
 
-        when(vegetableStrategy.calculatePrice(anyList())).thenReturn(List.of(
+        when(vegetableStrategy.calculatePrice(any(OrderAccumulator.class))).thenReturn(List.of(
                 new ReceiptLine("300g Vegetables", new BigDecimal("3.00"), new BigDecimal("0.21"), new BigDecimal("2.79"))
         ));
 
@@ -96,7 +104,7 @@ class OrderPricingServiceTest {
         BreadItem bread = new BreadItem(2, 0);
         Order order = new Order(List.of(bread));
 
-        when(breadStrategy.calculatePrice(anyList())).thenReturn(List.of(
+        when(breadStrategy.calculatePrice(any(OrderAccumulator.class))).thenReturn(List.of(
                 new ReceiptLine("2 x Bread (0 days old)", new BigDecimal("2.00"), BigDecimal.ZERO, new BigDecimal("2.00"))
         ));
 
@@ -111,7 +119,10 @@ class OrderPricingServiceTest {
     void shouldThrowExceptionForUnknownProductType() {
         PricingStrategy onlyBreadStrategy = mock(PricingStrategy.class);
         when(onlyBreadStrategy.getProductType()).thenReturn(ProductType.BREAD);
-        OrderPricingService limitedService = new OrderPricingService(List.of(onlyBreadStrategy));
+        OrderPricingService limitedService = new OrderPricingService(
+                List.of(onlyBreadStrategy),
+                new PricingConfiguration()
+        );
 
         VegetableItem veg = new VegetableItem(100);
         Order order = new Order(List.of(veg));
@@ -120,4 +131,139 @@ class OrderPricingServiceTest {
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("No pricing strategy registered for product type: VEGETABLE");
     }
+
+    @Test
+    void shouldRejectBreadOlderThanConfiguredMaxAge() {
+        Order order = new Order(List.of(new BreadItem(1, 30)));
+
+        assertThatThrownBy(() -> service.calculateReceipt(order))
+                .isInstanceOf(OrderValidationException.class)
+                .satisfies(ex -> assertThat(((OrderValidationException) ex).getErrors())
+                        .containsEntry("daysOld", "Bread older than 6 days not allowed"));
+        verify(breadStrategy, never()).calculatePrice(any(OrderAccumulator.class));
+    }
+
+    @Test
+    void shouldAcceptBreadUpToRaisedMaxAge() {
+        PricingConfiguration config = new PricingConfiguration();
+        config.getBread().setMaxAgeDays(8);
+        OrderPricingService lenientService = new OrderPricingService(List.of(breadStrategy), config);
+        when(breadStrategy.calculatePrice(any(OrderAccumulator.class))).thenReturn(List.of(
+                new ReceiptLine("1 x Bread (8 days old)", new BigDecimal("1.00"), BigDecimal.ZERO, new BigDecimal("1.00"))
+        ));
+
+        Receipt receipt = lenientService.calculateReceipt(new Order(List.of(new BreadItem(1, 8))));
+
+        assertThat(receipt.total()).isEqualByComparingTo("1.00");
+    }
+
+    @Test
+    void shouldPriceAccumulatedTotalsWithStrategiesForPresentTypesOnly() {
+        OrderAccumulator totals = new OrderAccumulator(6);
+        totals.addBread(2, 0);
+        totals.addBeer(6, BeerOrigin.DUTCH);
+
+        when(breadStrategy.calculatePrice(any(OrderAccumulator.class))).thenReturn(List.of(
+                new ReceiptLine("2 x Bread (0 days old)", new BigDecimal("2.00"), BigDecimal.ZERO, new BigDecimal("2.00"))
+        ));
+        when(beerStrategy.calculatePrice(any(OrderAccumulator.class))).thenReturn(List.of(
+                new ReceiptLine("6 x DUTCH Beer (1 packs + 0 singles)", new BigDecimal("3.00"), new BigDecimal("2.00"), new BigDecimal("1.00"))
+        ));
+
+        Receipt receipt = service.calculateReceipt(totals);
+
+        assertThat(receipt.lines()).hasSize(2);
+        assertThat(receipt.lines().get(0).description()).contains("Bread");
+        assertThat(receipt.total()).isEqualByComparingTo("3.00");
+        verify(vegetableStrategy, never()).calculatePrice(any(OrderAccumulator.class));
+    }
+
+    @Test
+    void shouldReportEachStrategyLinesBeforeReturningReceipt() {
+        Order order = new Order(List.of(new BeerItem(6, BeerOrigin.DUTCH), new BreadItem(1, 0)));
+        ReceiptLine breadLine = new ReceiptLine("1 x Bread", new BigDecimal("1.00"), BigDecimal.ZERO, new BigDecimal("1.00"));
+        ReceiptLine beerLine = new ReceiptLine("6 x DUTCH Beer", new BigDecimal("3.00"), new BigDecimal("2.00"), new BigDecimal("1.00"));
+        when(breadStrategy.calculatePrice(any(OrderAccumulator.class))).thenReturn(List.of(breadLine));
+        when(beerStrategy.calculatePrice(any(OrderAccumulator.class))).thenReturn(List.of(beerLine));
+        List<ProductType> reported = new ArrayList<>();
+
+        Receipt receipt = service.calculateReceipt(order, (type, lines) -> reported.add(type));
+
+        assertThat(reported).containsExactly(ProductType.BREAD, ProductType.BEER);
+        assertThat(receipt.lines()).containsExactly(breadLine, beerLine);
+        assertThat(receipt.total()).isEqualByComparingTo("2.00");
+    }
+
+    @Test
+    void shouldPriceCompactOrderFromItsTotals() {
+        CompactOrder order = new CompactOrder()
+                .addBread(1, 0)
+                .addBread(2, 0)
+                .addBeer(6, BeerOrigin.DUTCH);
+        when(breadStrategy.calculatePrice(any(OrderAccumulator.class))).thenAnswer(invocation -> {
+            OrderAccumulator totals = invocation.getArgument(0);
+            assertThat(totals.breadQuantity(0)).isEqualTo(3);
+            return List.of(new ReceiptLine("3 x Bread", new BigDecimal("3.00"), BigDecimal.ZERO, new BigDecimal("3.00")));
+        });
+        when(beerStrategy.calculatePrice(any(OrderAccumulator.class))).thenReturn(List.of(
+                new ReceiptLine("6 x DUTCH Beer", new BigDecimal("3.00"), new BigDecimal("2.00"), new BigDecimal("1.00"))
+        ));
+
+        Receipt receipt = service.calculateReceipt(order);
+
+        assertThat(receipt.lines()).hasSize(2);
+        assertThat(receipt.total()).isEqualByComparingTo("4.00");
+        verify(vegetableStrategy, never()).calculatePrice(any(OrderAccumulator.class));
+    }
+
+    @Test
+    void shouldPriceEachBatchOrderFromItsOwnTotals() {
+        OrderBatch batch = new OrderBatch()
+                .startOrder(7).addBread(2, 0)
+                .startOrder(8).addBread(1, 0).addVegetable(100)
+                .startOrder(9);
+        when(breadStrategy.calculatePrice(any(OrderAccumulator.class))).thenAnswer(invocation -> {
+            OrderAccumulator totals = invocation.getArgument(0);
+            BigDecimal price = BigDecimal.valueOf(totals.breadQuantity(0));
+            return List.of(new ReceiptLine("Bread", price, BigDecimal.ZERO, price));
+        });
+        when(vegetableStrategy.calculatePrice(any(OrderAccumulator.class))).thenReturn(List.of(
+                new ReceiptLine("100g Vegetables", new BigDecimal("1.00"), new BigDecimal("0.05"), new BigDecimal("0.95"))
+        ));
+        doCallRealMethod().when(breadStrategy).addTotals(any(OrderAccumulator.class), any(LineTotals.class));
+        doCallRealMethod().when(vegetableStrategy).addTotals(any(OrderAccumulator.class), any(LineTotals.class));
+
+        OrderBatchTotals totals = service.calculateTotals(batch);
+
+        assertThat(totals.size()).isEqualTo(3);
+        assertThat(totals.orderId(0)).isEqualTo(7);
+        assertThat(totals.total(0)).isEqualByComparingTo("2.00");
+        assertThat(totals.subtotalCents(1)).isEqualTo(200);
+        assertThat(totals.discountCents(1)).isEqualTo(5);
+        assertThat(totals.total(1)).isEqualByComparingTo("1.95");
+        assertThat(totals.totalCents(2)).isZero();
+        verify(vegetableStrategy, times(1)).calculatePrice(any(OrderAccumulator.class));
+    }
+
+    @Test
+    void shouldRejectCompactBreadOlderThanConfiguredMaxAge() {
+        CompactOrder order = new CompactOrder().addBread(1, 0xFF_FFFF);
+
+        assertThatThrownBy(() -> service.calculateReceipt(order))
+                .isInstanceOf(OrderValidationException.class)
+                .satisfies(ex -> assertThat(((OrderValidationException) ex).getErrors())
+                        .containsEntry("daysOld", "Bread older than 6 days not allowed"));
+    }
+
+    @Test
+    void shouldRejectBatchWithBreadOlderThanConfiguredMaxAge() {
+        OrderBatch batch = new OrderBatch()
+                .startOrder(1).addBread(1, 0)
+                .startOrder(2).addBread(1, Integer.MAX_VALUE);
+
+        assertThatThrownBy(() -> service.calculateTotals(batch))
+                .isInstanceOf(OrderValidationException.class)
+                .satisfies(ex -> assertThat(((OrderValidationException) ex).getErrors())
+                        .containsEntry("daysOld", "Bread older than 6 days not allowed"));
+    }
 }
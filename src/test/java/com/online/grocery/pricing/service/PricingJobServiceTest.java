@@ -0,0 +1,201 @@
+package com.online.grocery.pricing.service;
+
+import com.online.grocery.pricing.api.mapper.OrderMapper;
+import com.online.grocery.pricing.api.mapper.StreamingOrderReader;
+import com.online.grocery.pricing.config.PricingConfiguration;
+import com.online.grocery.pricing.domain.enums.JobStatus;
+import com.online.grocery.pricing.domain.model.Receipt;
+import com.online.grocery.pricing.exception.InvalidOrderException;
+import com.online.grocery.pricing.exception.OrderValidationException;
+import com.online.grocery.pricing.exception.PricingJobNotFoundException;
+import com.online.grocery.pricing.exception.PricingJobRejectedException;
+import com.online.grocery.pricing.pricing.context.OrderAccumulator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PricingJobServiceTest {
+
+    private static final String ORDER = """
+            {"items": [{"type": "VEGETABLE", "weightGrams": 200}]}
+            """;
+
+    private final OrderPricingService pricingService = mock(OrderPricingService.class);
+    private final Receipt receipt = new Receipt(List.of(), null, null, null);
+    private PricingConfiguration config;
+    private StreamingOrderReader reader;
+
+    @BeforeEach
+    void setUp() {
+        config = new PricingConfiguration();
+        reader = new StreamingOrderReader(
+                JsonMapper.builder().build(),
+                new OrderMapper(config),
+                config
+        );
+        when(pricingService.calculateReceipt(any(OrderAccumulator.class))).thenReturn(receipt);
+    }
+
+    @Test
+    void shouldPriceSubmittedOrder() throws IOException {
+        PricingJobService service = service(Runnable::run);
+
+        PricingJob job = service.submit(body(ORDER));
+
+        assertThat(job.status()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(service.find(job.id()).result().join()).isSameAs(receipt);
+    }
+
+    @Test
+    void shouldReportPricingFailure() throws IOException {
+        when(pricingService.calculateReceipt(any(OrderAccumulator.class)))
+                .thenThrow(new InvalidOrderException("rejected"));
+        PricingJobService service = service(Runnable::run);
+
+        PricingJob job = service.submit(body(ORDER));
+
+        assertThat(job.status()).isEqualTo(JobStatus.FAILED);
+        assertThatThrownBy(() -> job.result().join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(InvalidOrderException.class);
+    }
+
+    @Test
+    void shouldLeaveJobPendingUntilExecutorRunsIt() throws IOException {
+        PricingJobService service = service(task -> {
+        });
+
+        assertThat(service.submit(body(ORDER)).status()).isEqualTo(JobStatus.PENDING);
+    }
+
+    @Test
+    void shouldRejectJobWhenQueueIsFull() {
+        PricingJobService service = service(task -> {
+            throw new RejectedExecutionException("full");
+        });
+
+        assertThatThrownBy(() -> service.submit(body(ORDER)))
+                .isInstanceOf(PricingJobRejectedException.class);
+    }
+
+    @Test
+    void shouldRejectBeforeReadingBodyWhenNoSlotIsFree() throws IOException {
+        config.getJobs().setParallelism(1);
+        config.getJobs().setQueueCapacity(0);
+        PricingJobService service = service(task -> {
+        });
+        service.submit(body(ORDER));
+
+        InputStream unread = new InputStream() {
+            @Override
+            public int read() {
+                throw new AssertionError("Body read although the queue is full");
+            }
+        };
+
+        assertThatThrownBy(() -> service.submit(unread))
+                .isInstanceOf(PricingJobRejectedException.class);
+    }
+
+    @Test
+    void shouldFreeSlotWhenJobFinishes() throws IOException {
+        config.getJobs().setParallelism(1);
+        config.getJobs().setQueueCapacity(0);
+        PricingJobService service = service(Runnable::run);
+
+        service.submit(body(ORDER));
+
+        assertThat(service.submit(body(ORDER)).status()).isEqualTo(JobStatus.COMPLETED);
+    }
+
+    @Test
+    void shouldFreeSlotWhenBodyIsRejected() throws IOException {
+        config.getJobs().setParallelism(1);
+        config.getJobs().setQueueCapacity(0);
+        config.getJobs().setMaxBodyBytes(64);
+        PricingJobService service = service(Runnable::run);
+
+        assertThatThrownBy(() -> service.submit(body(ORDER.repeat(4))))
+                .isInstanceOf(OrderValidationException.class);
+
+        assertThat(service.submit(body(ORDER)).status()).isEqualTo(JobStatus.COMPLETED);
+    }
+
+    @Test
+    void shouldRejectOversizedBody() {
+        config.getJobs().setMaxBodyBytes(8);
+        PricingJobService service = service(Runnable::run);
+
+        assertThatThrownBy(() -> service.submit(body(ORDER)))
+                .isInstanceOf(OrderValidationException.class);
+    }
+
+    @Test
+    void shouldExpireFinishedJobsAfterTtl() throws Exception {
+        config.getJobs().setResultTtl(Duration.ofMillis(1));
+        PricingJobService service = service(Runnable::run);
+        PricingJob job = service.submit(body(ORDER));
+
+        Thread.sleep(10);
+
+        assertThatThrownBy(() -> service.find(job.id()))
+                .isInstanceOf(PricingJobNotFoundException.class);
+    }
+
+    @Test
+    void shouldNotExpirePendingJobs() throws Exception {
+        config.getJobs().setResultTtl(Duration.ofMillis(1));
+        PricingJobService service = service(task -> {
+        });
+        PricingJob job = service.submit(body(ORDER));
+
+        Thread.sleep(10);
+
+        assertThat(service.find(job.id())).isSameAs(job);
+    }
+
+    @Test
+    void shouldHaveFinishTimeAsSoonAsJobIsDone() {
+        PricingJob job = new PricingJob("job");
+        List<Boolean> expiredOnCompletion = new ArrayList<>();
+        job.result().whenComplete((result, failure) ->
+                expiredOnCompletion.add(job.isExpired(System.nanoTime(), Duration.ofHours(1))));
+
+        job.run(() -> receipt);
+
+        assertThat(expiredOnCompletion).containsExactly(false);
+    }
+
+    @Test
+    void shouldCapLongPollWait() {
+        PricingJobService service = service(Runnable::run);
+
+        assertThat(service.boundedWait(Duration.ofMinutes(5))).isEqualTo(config.getJobs().getMaxWait());
+        assertThat(service.boundedWait(Duration.ofSeconds(-1))).isEqualTo(Duration.ZERO);
+    }
+
+    private PricingJobService service(Executor executor) {
+        return new PricingJobService(reader, pricingService, executor, config);
+    }
+
+    private static ByteArrayInputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
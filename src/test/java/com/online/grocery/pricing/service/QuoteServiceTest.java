@@ -0,0 +1,160 @@
+package com.online.grocery.pricing.service;
+
+import com.online.grocery.pricing.api.dto.QuoteResponse;
+import com.online.grocery.pricing.api.dto.QuoteVerificationResponse;
+import com.online.grocery.pricing.config.PricingConfiguration;
+import com.online.grocery.pricing.domain.enums.BeerOrigin;
+import com.online.grocery.pricing.domain.model.BeerItem;
+import com.online.grocery.pricing.domain.model.BreadItem;
+import com.online.grocery.pricing.domain.model.Order;
+import com.online.grocery.pricing.domain.model.Receipt;
+import com.online.grocery.pricing.domain.model.VegetableItem;
+import com.online.grocery.pricing.exception.InvalidQuoteException;
+import com.online.grocery.pricing.pricing.context.OrderAccumulator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class QuoteServiceTest {
+
+    private static final Receipt RECEIPT = new Receipt(
+            List.of(), new BigDecimal("8.00"), new BigDecimal("3.14"), new BigDecimal("4.86")
+    );
+
+    private final CoalescingPricingService pricingService = mock(CoalescingPricingService.class);
+    private PricingConfiguration config;
+    private ConfigurationVersionService versionService;
+    private QuoteService service;
+
+    @BeforeEach
+    void setUp() {
+        config = new PricingConfiguration();
+        config.setBreadPrice(new BigDecimal("1.00"));
+        config.setVegetablePricePer100g(new BigDecimal("1.00"));
+        config.getQuote().setSecret("test-secret");
+        versionService = new ConfigurationVersionService(config, JsonMapper.builder().build());
+        service = new QuoteService(pricingService, versionService, config);
+        when(pricingService.calculateReceipt(any(OrderAccumulator.class))).thenReturn(RECEIPT);
+    }
+
+    @Test
+    void shouldConfirmQuoteWithoutPricingAgain() {
+        QuoteResponse quote = service.quote(order());
+
+        QuoteVerificationResponse verified = service.verify(order(), quote.token());
+
+        assertThat(verified.repriced()).isFalse();
+        assertThat(verified.priceChanged()).isFalse();
+        assertThat(verified.subtotal()).isEqualByComparingTo("8.00");
+        assertThat(verified.totalDiscount()).isEqualByComparingTo("3.14");
+        assertThat(verified.total()).isEqualByComparingTo("4.86");
+        assertThat(verified.token()).isEqualTo(quote.token());
+        assertThat(verified.expiresAt()).isEqualTo(quote.expiresAt());
+        verify(pricingService, times(1)).calculateReceipt(any(OrderAccumulator.class));
+    }
+
+    @Test
+    void shouldAcceptSameTotalsInAnyItemOrder() {
+        QuoteResponse quote = service.quote(order());
+        Order reordered = new Order(List.of(
+                new BeerItem(6, BeerOrigin.DUTCH),
+                new VegetableItem(200),
+                new BreadItem(1, 3),
+                new BreadItem(2, 3)
+        ));
+
+        assertThat(service.verify(reordered, quote.token()).repriced()).isFalse();
+    }
+
+    @Test
+    void shouldPriceAgainWhenConfigurationChanged() {
+        QuoteResponse quote = service.quote(order());
+        config.setBreadPrice(new BigDecimal("1.10"));
+        service = new QuoteService(pricingService, new ConfigurationVersionService(config, JsonMapper.builder().build()), config);
+        Receipt repriced = new Receipt(
+                List.of(), new BigDecimal("8.30"), new BigDecimal("3.14"), new BigDecimal("5.16")
+        );
+        when(pricingService.calculateReceipt(any(OrderAccumulator.class))).thenReturn(repriced);
+
+        QuoteVerificationResponse verified = service.verify(order(), quote.token());
+
+        assertThat(verified.repriced()).isTrue();
+        assertThat(verified.priceChanged()).isTrue();
+        assertThat(verified.total()).isEqualByComparingTo("5.16");
+        assertThat(verified.token()).isNotEqualTo(quote.token());
+        assertThat(service.verify(order(), verified.token()).repriced()).isFalse();
+    }
+
+    @Test
+    void shouldRejectQuoteForDifferentOrder() {
+        QuoteResponse quote = service.quote(order());
+        Order other = new Order(List.of(new VegetableItem(300)));
+
+        assertThatThrownBy(() -> service.verify(other, quote.token()))
+                .isInstanceOf(InvalidQuoteException.class)
+                .hasMessageContaining("different order");
+    }
+
+    @Test
+    void shouldRejectTamperedToken() {
+        String token = service.quote(order()).token();
+        char[] chars = token.toCharArray();
+        chars[30] = chars[30] == 'A' ? 'B' : 'A';
+
+        assertThatThrownBy(() -> service.verify(order(), new String(chars)))
+                .isInstanceOf(InvalidQuoteException.class)
+                .hasMessageContaining("signature");
+    }
+
+    @Test
+    void shouldRejectTokenSignedWithAnotherSecret() {
+        PricingConfiguration otherConfig = new PricingConfiguration();
+        otherConfig.getQuote().setSecret("other-secret");
+        QuoteService other = new QuoteService(pricingService, versionService, otherConfig);
+
+        String token = other.quote(order()).token();
+
+        assertThatThrownBy(() -> service.verify(order(), token))
+                .isInstanceOf(InvalidQuoteException.class);
+    }
+
+    @Test
+    void shouldRejectMalformedToken() {
+        assertThatThrownBy(() -> service.verify(order(), "not a token"))
+                .isInstanceOf(InvalidQuoteException.class)
+                .hasMessageContaining("Malformed");
+        assertThatThrownBy(() -> service.verify(order(), "AAAA"))
+                .isInstanceOf(InvalidQuoteException.class)
+                .hasMessageContaining("Malformed");
+    }
+
+    @Test
+    void shouldRejectExpiredQuote() {
+        config.getQuote().setTtl(Duration.ofSeconds(-1));
+        String token = service.quote(order()).token();
+
+        assertThatThrownBy(() -> service.verify(order(), token))
+                .isInstanceOf(InvalidQuoteException.class)
+                .hasMessageContaining("expired");
+    }
+
+    private static Order order() {
+        return new Order(List.of(
+                new BreadItem(3, 3),
+                new VegetableItem(200),
+                new BeerItem(6, BeerOrigin.DUTCH)
+        ));
+    }
+}
@@ -0,0 +1,97 @@
+package com.online.grocery.pricing.service;
+
+import com.online.grocery.pricing.api.mapper.OrderMapper;
+import com.online.grocery.pricing.config.PricingConfiguration;
+import com.online.grocery.pricing.domain.enums.BeerOrigin;
+import com.online.grocery.pricing.domain.enums.ProductType;
+import com.online.grocery.pricing.domain.model.BeerItem;
+import com.online.grocery.pricing.domain.model.BreadItem;
+import com.online.grocery.pricing.domain.model.Order;
+import com.online.grocery.pricing.domain.model.ReceiptLine;
+import com.online.grocery.pricing.exception.GlobalExceptionHandler;
+import com.online.grocery.pricing.exception.InvalidOrderException;
+import com.online.grocery.pricing.pricing.context.OrderAccumulator;
+import com.online.grocery.pricing.pricing.strategy.PricingStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReceiptEventServiceTest {
+
+    private PricingStrategy breadStrategy;
+    private PricingStrategy beerStrategy;
+    private ReceiptEventService service;
+
+    @BeforeEach
+    void setUp() {
+        breadStrategy = mock(PricingStrategy.class);
+        beerStrategy = mock(PricingStrategy.class);
+        when(breadStrategy.getProductType()).thenReturn(ProductType.BREAD);
+        when(beerStrategy.getProductType()).thenReturn(ProductType.BEER);
+
+        PricingConfiguration config = new PricingConfiguration();
+        service = new ReceiptEventService(
+                new OrderPricingService(List.of(breadStrategy, beerStrategy), config),
+                new OrderMapper(config),
+                JsonMapper.builder().build(),
+                new GlobalExceptionHandler()
+        );
+    }
+
+    @Test
+    void shouldWriteLinesEventPerStrategyThenTotals() throws IOException {
+        when(breadStrategy.calculatePrice(any(OrderAccumulator.class))).thenReturn(List.of(
+                new ReceiptLine("1 x Bread", new BigDecimal("1.00"), BigDecimal.ZERO, new BigDecimal("1.00"))
+        ));
+        when(beerStrategy.calculatePrice(any(OrderAccumulator.class))).thenReturn(List.of(
+                new ReceiptLine("6 x DUTCH Beer", new BigDecimal("3.00"), new BigDecimal("2.00"), new BigDecimal("1.00"))
+        ));
+        StringWriter output = new StringWriter();
+
+        service.streamReceipt(order(), output);
+
+        assertThat(output.toString()).isEqualTo("""
+                event: lines
+                data: {"productType":"BREAD","lines":[{"description":"1 x Bread","originalPrice":1.00,"discount":0,"finalPrice":1.00}]}
+
+                event: lines
+                data: {"productType":"BEER","lines":[{"description":"6 x DUTCH Beer","originalPrice":3.00,"discount":2.00,"finalPrice":1.00}]}
+
+                event: totals
+                data: {"subtotal":4.00,"totalDiscount":2.00,"total":2.00}
+
+                """);
+    }
+
+    @Test
+    void shouldEndStreamWithErrorEventWhenPricingFailsMidway() throws IOException {
+        when(breadStrategy.calculatePrice(any(OrderAccumulator.class))).thenReturn(List.of(
+                new ReceiptLine("1 x Bread", new BigDecimal("1.00"), BigDecimal.ZERO, new BigDecimal("1.00"))
+        ));
+        when(beerStrategy.calculatePrice(any(OrderAccumulator.class))).thenThrow(new InvalidOrderException("Beer unavailable"));
+        StringWriter output = new StringWriter();
+
+        service.streamReceipt(order(), output);
+
+        String[] events = output.toString().split("\n\n");
+        assertThat(events).hasSize(2);
+        assertThat(events[0]).startsWith("event: lines\n");
+        assertThat(events[1]).isEqualTo("""
+                event: error
+                data: {"code":"INVALID_ORDER","message":"Beer unavailable","details":null}""");
+    }
+
+    private static Order order() {
+        return new Order(List.of(new BreadItem(1, 0), new BeerItem(6, BeerOrigin.DUTCH)));
+    }
+}
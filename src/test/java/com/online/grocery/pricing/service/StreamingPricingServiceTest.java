@@ -0,0 +1,77 @@
+package com.online.grocery.pricing.service;
+
+import com.online.grocery.pricing.config.PricingConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class StreamingPricingServiceTest {
+
+    @Autowired
+    private StreamingPricingService streamingPricingService;
+
+    @Autowired
+    private PricingConfiguration config;
+
+    @AfterEach
+    void tearDown() {
+        config.getStream().setMaxInFlight(64);
+        config.getStream().setMaxLineLength(64 * 1024);
+    }
+
+    @Test
+    void shouldPreserveInputOrderWithSmallWindow() throws Exception {
+        config.getStream().setMaxInFlight(2);
+        String input = IntStream.rangeClosed(1, 20)
+                .mapToObj(qty -> "{\"items\":[{\"type\":\"BREAD\",\"quantity\":" + qty + ",\"daysOld\":0}]}")
+                .collect(Collectors.joining("\n"));
+        StringWriter output = new StringWriter();
+
+        streamingPricingService.priceStream(new BufferedReader(new StringReader(input)), output);
+
+        String[] lines = output.toString().split("\n");
+        assertThat(lines).hasSize(20);
+        for (int i = 0; i < lines.length; i++) {
+            assertThat(lines[i]).contains("\"total\":" + (i + 1) + ".00");
+        }
+    }
+
+    @Test
+    void shouldWriteErrorLineForMalformedJson() throws Exception {
+        String input = "{\"items\":[\n{\"items\":[]}\n";
+        StringWriter output = new StringWriter();
+
+        streamingPricingService.priceStream(new BufferedReader(new StringReader(input)), output);
+
+        String[] lines = output.toString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"code\":\"VALIDATION_ERROR\"").contains("Malformed order JSON");
+        assertThat(lines[1]).contains("\"code\":\"VALIDATION_ERROR\"").contains("At least one item required");
+    }
+
+    @Test
+    void shouldWriteErrorLineForOverlongLineAndContinue() throws Exception {
+        config.getStream().setMaxLineLength(100);
+        String order = "{\"items\":[{\"type\":\"BREAD\",\"quantity\":1,\"daysOld\":0}]}";
+        String overlong = "{\"items\":[" + "{\"type\":\"VEGETABLE\",\"weightGrams\":1},".repeat(50) + "]}";
+        String input = overlong + "\r\n" + order + "\r\n";
+        StringWriter output = new StringWriter();
+
+        streamingPricingService.priceStream(new StringReader(input), output);
+
+        String[] lines = output.toString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"code\":\"VALIDATION_ERROR\"").contains("Order line exceeds 100 characters");
+        assertThat(lines[1]).contains("\"total\":1.00");
+    }
+}
@@ -0,0 +1,66 @@
+package com.online.grocery.pricing.tcp;
+
+import com.online.grocery.pricing.api.codec.OrderWireCodec;
+import com.online.grocery.pricing.api.dto.OrderRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.net.Socket;
+
+/**
+ * Minimal blocking client for the TCP pricing protocol, used by tests.
+ */
+class TcpPricingClient implements AutoCloseable {
+
+    private final Socket socket;
+    private final DataInputStream input;
+    private final DataOutputStream output;
+
+    TcpPricingClient(int port) throws IOException {
+        this.socket = new Socket("127.0.0.1", port);
+        this.socket.setTcpNoDelay(true);
+        this.input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        this.output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+    }
+
+    /**
+     * Queue an order frame without waiting for its response.
+     */
+    void send(OrderRequest request) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        OrderWireCodec.writeOrder(request, payload);
+        sendRaw(payload.toByteArray());
+    }
+
+    void sendRaw(byte[] payload) throws IOException {
+        output.writeInt(payload.length);
+        output.write(payload);
+    }
+
+    void flush() throws IOException {
+        output.flush();
+    }
+
+    /**
+     * Block until the next response frame arrives.
+     */
+    Response receive() throws IOException {
+        int length = input.readInt();
+        int status = input.readShort();
+        byte[] body = new byte[length - Short.BYTES];
+        input.readFully(body);
+        return new Response(status, body);
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+
+    record Response(int status, byte[] body) {
+    }
+}
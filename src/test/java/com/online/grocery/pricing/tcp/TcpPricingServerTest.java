@@ -0,0 +1,158 @@
+package com.online.grocery.pricing.tcp;
+
+import com.online.grocery.pricing.api.codec.OrderWireCodec;
+import com.online.grocery.pricing.api.dto.ErrorResponse;
+import com.online.grocery.pricing.api.dto.OrderItemRequest;
+import com.online.grocery.pricing.api.dto.OrderRequest;
+import com.online.grocery.pricing.api.mapper.OrderMapper;
+import com.online.grocery.pricing.config.PricingConfiguration;
+import com.online.grocery.pricing.domain.enums.BeerOrigin;
+import com.online.grocery.pricing.domain.enums.ProductType;
+import com.online.grocery.pricing.exception.GlobalExceptionHandler;
+import com.online.grocery.pricing.service.BatchPricingService;
+import com.online.grocery.pricing.service.OrderPricingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "pricing.tcp.enabled=true",
+        "pricing.tcp.port=0",
+        "pricing.tcp.max-frame-bytes=1024"
+})
+class TcpPricingServerTest {
+
+    @Autowired
+    private TcpPricingServer server;
+
+    @Autowired
+    private OrderPricingService pricingService;
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Autowired
+    private BatchPricingService batchPricingService;
+
+    @Autowired
+    private GlobalExceptionHandler exceptionHandler;
+
+    @Autowired
+    private PricingConfiguration config;
+
+    @Test
+    void shouldPricePipelinedFramesInOrder() throws IOException {
+        List<OrderRequest> orders = List.of(
+                order(new OrderItemRequest(ProductType.BREAD, 3, 3, null, null)),
+                order(new OrderItemRequest(ProductType.VEGETABLE, null, null, 200, null)),
+                order(new OrderItemRequest(ProductType.BEER, 6, null, null, BeerOrigin.DUTCH))
+        );
+
+        try (TcpPricingClient client = new TcpPricingClient(server.getPort())) {
+            for (OrderRequest order : orders) {
+                client.send(order);
+            }
+            client.flush();
+
+            for (OrderRequest order : orders) {
+                TcpPricingClient.Response response = client.receive();
+                ByteArrayOutputStream expected = new ByteArrayOutputStream();
+                OrderWireCodec.writeReceipt(
+                        pricingService.calculateReceipt(orderMapper.mapToOrder(order)), expected);
+
+                assertThat(response.status()).isEqualTo(200);
+                assertThat(response.body()).isEqualTo(expected.toByteArray());
+            }
+        }
+    }
+
+    @Test
+    void shouldReturnErrorFramesWithHttpCodes() throws IOException {
+        try (TcpPricingClient client = new TcpPricingClient(server.getPort())) {
+            client.send(new OrderRequest(List.of()));
+            client.send(order(new OrderItemRequest(ProductType.BREAD, 1, null, null, null)));
+            client.sendRaw(new byte[]{9});
+            client.flush();
+
+            assertError(client.receive(), 400, "VALIDATION_ERROR");
+            assertError(client.receive(), 422, "INVALID_ORDER");
+            assertError(client.receive(), 400, "VALIDATION_ERROR");
+        }
+    }
+
+    @Test
+    void shouldCloseConnectionOnOversizedFrame() throws IOException {
+        try (TcpPricingClient client = new TcpPricingClient(server.getPort())) {
+            client.sendRaw(new byte[2048]);
+            client.flush();
+
+            assertThatThrownBy(client::receive).isInstanceOf(EOFException.class);
+        }
+    }
+
+    @Test
+    void shouldBackOffAndResumeWhenAcceptFails() throws Exception {
+        AtomicBoolean failing = new AtomicBoolean(true);
+        AtomicInteger attempts = new AtomicInteger();
+        TcpPricingServer failingServer = new TcpPricingServer(
+                batchPricingService, exceptionHandler, jsonMapper, config) {
+            @Override
+            SocketChannel acceptChannel() throws IOException {
+                attempts.incrementAndGet();
+                if (failing.get()) {
+                    throw new IOException("Too many open files");
+                }
+                return super.acceptChannel();
+            }
+        };
+        failingServer.start();
+        try (TcpPricingClient client = new TcpPricingClient(failingServer.getPort())) {
+            client.send(order(new OrderItemRequest(ProductType.BREAD, 3, 3, null, null)));
+            client.flush();
+
+            Thread.sleep(TcpPricingServer.ACCEPT_BACKOFF.multipliedBy(3).toMillis());
+            assertThat(attempts.get()).isBetween(1, 10);
+
+            failing.set(false);
+            assertThat(client.receive().status()).isEqualTo(200);
+        } finally {
+            failingServer.stop();
+        }
+        assertThat(failingServer.isRunning()).isFalse();
+    }
+
+    @Test
+    void shouldStopWithoutHavingStarted() {
+        TcpPricingServer unstarted = new TcpPricingServer(
+                batchPricingService, exceptionHandler, jsonMapper, config);
+
+        unstarted.stop();
+
+        assertThat(unstarted.isRunning()).isFalse();
+    }
+
+    private void assertError(TcpPricingClient.Response response, int status, String code) {
+        assertThat(response.status()).isEqualTo(status);
+        assertThat(jsonMapper.readValue(response.body(), ErrorResponse.class).code()).isEqualTo(code);
+    }
+
+    private static OrderRequest order(OrderItemRequest item) {
+        return new OrderRequest(List.of(item));
+    }
+}